@@ -0,0 +1,195 @@
+#!/usr/bin/env bash
+#
+# Local load-test environment for Argo Workflows
+# Creates a kind cluster with a local Postgres archive and the Argo Workflows chart, then port-forwards
+# the server (2746) and controller metrics (9090) for the load-test tool
+#
+set -euo pipefail
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+# Default values
+CLUSTER="idp-load-test"
+CHART_VERSION="0.46.2"
+WORKERS=32
+PARALLELISM=20
+NAMESPACE_PARALLELISM=10
+NAMESPACES="team-backend,team-frontend,team-data,team-ml,team-integrations"
+ACTION="up"
+
+usage() {
+  cat <<EOF
+Usage: $(basename "$0") [OPTIONS] [up|down]
+
+Local load-test environment for Argo Workflows.
+Creates a kind cluster with Postgres for the workflow archive and installs Argo Workflows with
+the same persistence and capacity settings as production, so capacity changes can be compared offline.
+
+Optional:
+  --cluster NAME                  kind cluster name (default: ${CLUSTER})
+  --chart-version VERSION         argo-workflows chart version (default: ${CHART_VERSION})
+  --workers N                     controller workflowWorkers (default: ${WORKERS})
+  --parallelism N                 controller parallelism (default: ${PARALLELISM})
+  --namespace-parallelism N       controller namespaceParallelism (default: ${NAMESPACE_PARALLELISM})
+  --namespaces LIST               comma-separated team namespaces (default: ${NAMESPACES})
+  -h, --help                      Show this help message
+
+Examples:
+  # Create the environment and run a burst of 1000 workflows
+  $(basename "$0") up
+  go run main.go --workflows 1000 --burst 200
+
+  # Re-apply with more controller workers and compare
+  $(basename "$0") --workers 64 up
+
+  # Tear down
+  $(basename "$0") down
+EOF
+  exit 1
+}
+
+log_info() { echo -e "${BLUE}[INFO]${NC} $1"; }
+log_success() { echo -e "${GREEN}[SUCCESS]${NC} $1"; }
+log_warn() { echo -e "${YELLOW}[WARN]${NC} $1"; }
+log_error() { echo -e "${RED}[ERROR]${NC} $1"; }
+
+while [[ $# -gt 0 ]]; do
+  case $1 in
+    --cluster) CLUSTER="$2"; shift 2 ;;
+    --chart-version) CHART_VERSION="$2"; shift 2 ;;
+    --workers) WORKERS="$2"; shift 2 ;;
+    --parallelism) PARALLELISM="$2"; shift 2 ;;
+    --namespace-parallelism) NAMESPACE_PARALLELISM="$2"; shift 2 ;;
+    --namespaces) NAMESPACES="$2"; shift 2 ;;
+    up|down) ACTION="$1"; shift ;;
+    -h|--help) usage ;;
+    *) log_error "Unknown option: $1"; usage ;;
+  esac
+done
+
+for cmd in kind kubectl helm; do
+  if ! command -v "$cmd" &>/dev/null; then
+    log_error "$cmd is required"
+    exit 1
+  fi
+done
+
+if [[ "$ACTION" == "down" ]]; then
+  log_info "Deleting kind cluster ${CLUSTER}"
+  kind delete cluster --name "$CLUSTER"
+  log_success "Cluster deleted"
+  exit 0
+fi
+
+if ! kind get clusters | grep -qx "$CLUSTER"; then
+  log_info "Creating kind cluster ${CLUSTER}"
+  kind create cluster --name "$CLUSTER" --wait 120s
+fi
+kubectl config use-context "kind-${CLUSTER}" >/dev/null
+
+log_info "Deploying Postgres"
+kubectl create namespace argo --dry-run=client -o yaml | kubectl apply -f -
+kubectl apply -n argo -f - <<EOF
+apiVersion: v1
+kind: Secret
+metadata:
+  name: argo-workflows-db-credentials
+stringData:
+  username: argo
+  password: argo
+---
+apiVersion: apps/v1
+kind: Deployment
+metadata:
+  name: postgres
+spec:
+  replicas: 1
+  selector:
+    matchLabels:
+      app: postgres
+  template:
+    metadata:
+      labels:
+        app: postgres
+    spec:
+      containers:
+        - name: postgres
+          image: postgres:16-alpine
+          env:
+            - name: POSTGRES_USER
+              value: argo
+            - name: POSTGRES_PASSWORD
+              value: argo
+            - name: POSTGRES_DB
+              value: argo_workflows
+          ports:
+            - containerPort: 5432
+          readinessProbe:
+            exec:
+              command: ["pg_isready", "-U", "argo"]
+---
+apiVersion: v1
+kind: Service
+metadata:
+  name: postgres
+spec:
+  selector:
+    app: postgres
+  ports:
+    - port: 5432
+EOF
+kubectl rollout status -n argo deployment/postgres --timeout=180s
+
+log_info "Creating team namespaces"
+IFS=',' read -ra TEAMS <<<"$NAMESPACES"
+for ns in "${TEAMS[@]}"; do
+  kubectl create namespace "$ns" --dry-run=client -o yaml | kubectl apply -f -
+done
+
+log_info "Installing Argo Workflows ${CHART_VERSION} (workers=${WORKERS} parallelism=${PARALLELISM})"
+helm repo add argo https://argoproj.github.io/argo-helm >/dev/null 2>&1 || true
+helm repo update argo >/dev/null
+
+NAMESPACE_ARGS=()
+for i in "${!TEAMS[@]}"; do
+  NAMESPACE_ARGS+=(--set "controller.workflowNamespaces[$i]=${TEAMS[$i]}")
+done
+
+helm upgrade --install argo-workflows argo/argo-workflows \
+  --namespace argo \
+  --version "$CHART_VERSION" \
+  --wait \
+  "${NAMESPACE_ARGS[@]}" \
+  --set "server.authModes[0]=server" \
+  --set "server.extraArgs[0]=--secure=false" \
+  --set controller.workflowWorkers="$WORKERS" \
+  --set controller.parallelism="$PARALLELISM" \
+  --set controller.namespaceParallelism="$NAMESPACE_PARALLELISM" \
+  --set controller.metricsConfig.enabled=true \
+  --set controller.metricsConfig.port=9090 \
+  --set controller.persistence.archive=true \
+  --set controller.persistence.postgresql.host=postgres.argo.svc.cluster.local \
+  --set controller.persistence.postgresql.port=5432 \
+  --set controller.persistence.postgresql.database=argo_workflows \
+  --set controller.persistence.postgresql.tableName=argo_workflows \
+  --set controller.persistence.postgresql.ssl=false \
+  --set controller.persistence.postgresql.userNameSecret.name=argo-workflows-db-credentials \
+  --set controller.persistence.postgresql.userNameSecret.key=username \
+  --set controller.persistence.postgresql.passwordSecret.name=argo-workflows-db-credentials \
+  --set controller.persistence.postgresql.passwordSecret.key=password \
+  --set workflow.serviceAccount.create=true \
+  --set workflow.serviceAccount.name=argo-workflow \
+  --set workflow.rbac.create=true
+
+log_info "Port-forwarding Argo Server (2746) and controller metrics (9090); Ctrl-C to stop"
+kubectl -n argo port-forward svc/argo-workflows-server 2746:2746 >/dev/null &
+kubectl -n argo port-forward deploy/argo-workflows-workflow-controller 9090:9090 >/dev/null &
+trap 'kill $(jobs -p) 2>/dev/null' EXIT
+
+log_success "Environment ready: cd scripts/load-test && go run main.go"
+wait
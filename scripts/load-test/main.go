@@ -0,0 +1,648 @@
+package main
+
+import (
+	"bufio"
+	"context"
+	"encoding/json"
+	"flag"
+	"fmt"
+	"math"
+	"net/http"
+	"net/url"
+	"os"
+	"sort"
+	"strconv"
+	"strings"
+	"sync"
+	"time"
+
+	metav1 "k8s.io/apimachinery/pkg/apis/meta/v1"
+	"k8s.io/apimachinery/pkg/apis/meta/v1/unstructured"
+	"k8s.io/apimachinery/pkg/runtime/schema"
+	"k8s.io/apimachinery/pkg/watch"
+	"k8s.io/client-go/dynamic"
+	"k8s.io/client-go/tools/clientcmd"
+)
+
+const (
+	colorReset  = "\033[0m"
+	colorRed    = "\033[31m"
+	colorGreen  = "\033[32m"
+	colorYellow = "\033[33m"
+	colorBlue   = "\033[34m"
+	colorCyan   = "\033[36m"
+
+	runLabel = "load-test.idp/run"
+)
+
+var workflowGVR = schema.GroupVersionResource{Group: "argoproj.io", Version: "v1alpha1", Resource: "workflows"}
+
+type Config struct {
+	Namespaces     []string
+	Workflows      int
+	Burst          int
+	Interval       time.Duration
+	Steps          int
+	StepDuration   time.Duration
+	Image          string
+	ServiceAccount string
+	Timeout        time.Duration
+	ArgoServer     string
+	ArgoToken      string
+	MetricsURL     string
+	ArchiveQueries int
+	Cleanup        bool
+	Run            string
+}
+
+type Sample struct {
+	SubmittedAt time.Time
+	RunningAt   time.Time
+	CompletedAt time.Time
+	Phase       string
+}
+
+type LoadTest struct {
+	config        Config
+	dynamicClient dynamic.Interface
+	httpClient    *http.Client
+
+	mu         sync.Mutex
+	samples    map[string]*Sample
+	submitErrs int
+	queueDepth map[string][]float64
+}
+
+func main() {
+	printBanner()
+
+	config := parseFlags()
+
+	test, err := NewLoadTest(config)
+	if err != nil {
+		fmt.Printf("%s✗ Failed to initialize: %v%s\n", colorRed, err, colorReset)
+		os.Exit(1)
+	}
+
+	if err := test.Run(); err != nil {
+		fmt.Printf("%s✗ Load test failed: %v%s\n", colorRed, err, colorReset)
+		os.Exit(1)
+	}
+}
+
+func printBanner() {
+	fmt.Printf("%s", colorCyan)
+	fmt.Println("╔═══════════════════════════════════════════════════════════════╗")
+	fmt.Println("║        IDP LOAD TEST - Argo Workflows Submission & Archive    ║")
+	fmt.Println("╚═══════════════════════════════════════════════════════════════╝")
+	fmt.Printf("%s\n", colorReset)
+}
+
+func parseFlags() Config {
+	var c Config
+	var namespaces string
+
+	flag.StringVar(&namespaces, "namespaces", "team-backend,team-frontend,team-data,team-ml,team-integrations", "comma-separated workflowNamespaces to spread workflows across")
+	flag.IntVar(&c.Workflows, "workflows", 500, "total workflows to submit")
+	flag.IntVar(&c.Burst, "burst", 100, "workflows submitted concurrently per burst")
+	flag.DurationVar(&c.Interval, "interval", 10*time.Second, "pause between bursts")
+	flag.IntVar(&c.Steps, "steps", 1, "sequential steps per workflow")
+	flag.DurationVar(&c.StepDuration, "step-duration", 5*time.Second, "sleep time per step")
+	flag.StringVar(&c.Image, "image", "busybox:1.36", "step container image")
+	flag.StringVar(&c.ServiceAccount, "service-account", "argo-workflow", "workflow service account (empty uses workflowDefaults)")
+	flag.DurationVar(&c.Timeout, "timeout", 30*time.Minute, "maximum time to wait for all workflows to complete")
+	flag.StringVar(&c.ArgoServer, "argo-server", "http://localhost:2746", "Argo Server url used for archive queries (empty to skip)")
+	flag.StringVar(&c.ArgoToken, "argo-token", os.Getenv("ARGO_TOKEN"), "bearer token for the Argo Server")
+	flag.StringVar(&c.MetricsURL, "metrics-url", "http://localhost:9090/metrics", "workflow controller metrics url (empty to skip)")
+	flag.IntVar(&c.ArchiveQueries, "archive-queries", 20, "archive list queries per namespace for latency sampling")
+	flag.BoolVar(&c.Cleanup, "cleanup", true, "delete submitted workflows when done")
+	flag.StringVar(&c.Run, "run", strconv.FormatInt(time.Now().Unix(), 10), "run id label value")
+	flag.Parse()
+
+	for _, ns := range strings.Split(namespaces, ",") {
+		if ns = strings.TrimSpace(ns); ns != "" {
+			c.Namespaces = append(c.Namespaces, ns)
+		}
+	}
+
+	return c
+}
+
+func NewLoadTest(config Config) (*LoadTest, error) {
+	if len(config.Namespaces) == 0 {
+		return nil, fmt.Errorf("at least one namespace is required")
+	}
+
+	loadingRules := clientcmd.NewDefaultClientConfigLoadingRules()
+	configOverrides := &clientcmd.ConfigOverrides{}
+	kubeConfig := clientcmd.NewNonInteractiveDeferredLoadingClientConfig(loadingRules, configOverrides)
+
+	restConfig, err := kubeConfig.ClientConfig()
+	if err != nil {
+		return nil, fmt.Errorf("failed to load kubeconfig: %w", err)
+	}
+
+	// Submission bursts exceed the default client-side rate limit.
+	restConfig.QPS = 200
+	restConfig.Burst = 400
+
+	dynamicClient, err := dynamic.NewForConfig(restConfig)
+	if err != nil {
+		return nil, fmt.Errorf("failed to create dynamic client: %w", err)
+	}
+
+	return &LoadTest{
+		config:        config,
+		dynamicClient: dynamicClient,
+		httpClient:    &http.Client{Timeout: 30 * time.Second},
+		samples:       map[string]*Sample{},
+		queueDepth:    map[string][]float64{},
+	}, nil
+}
+
+func (t *LoadTest) Run() error {
+	ctx, cancel := context.WithTimeout(context.Background(), t.config.Timeout)
+	defer cancel()
+
+	printHeader("CONFIGURATION")
+	fmt.Printf("  Run:         %s\n", t.config.Run)
+	fmt.Printf("  Namespaces:  %s\n", strings.Join(t.config.Namespaces, ", "))
+	fmt.Printf("  Workflows:   %d in bursts of %d every %s\n", t.config.Workflows, t.config.Burst, t.config.Interval)
+	fmt.Printf("  Steps:       %d x %s (%s)\n", t.config.Steps, t.config.StepDuration, t.config.Image)
+
+	watcher, err := t.dynamicClient.Resource(workflowGVR).Watch(ctx, metav1.ListOptions{
+		LabelSelector: fmt.Sprintf("%s=%s", runLabel, t.config.Run),
+	})
+	if err != nil {
+		return fmt.Errorf("failed to watch workflows: %w", err)
+	}
+	defer watcher.Stop()
+
+	done := make(chan struct{})
+	go t.observe(watcher, done)
+
+	if t.config.MetricsURL != "" {
+		go t.sampleQueueDepth(ctx, done)
+	}
+
+	printHeader("SUBMISSION")
+	started := time.Now()
+	t.submit(ctx)
+	fmt.Printf("  %s✓%s Submitted %d workflows in %s (%d errors)\n", colorGreen, colorReset, t.submitted(), time.Since(started).Round(time.Millisecond), t.submitErrs)
+
+	printHeader("EXECUTION")
+	t.waitForCompletion(ctx)
+	close(done)
+	fmt.Printf("  %s✓%s Finished after %s\n", colorGreen, colorReset, time.Since(started).Round(time.Second))
+
+	archive := t.queryArchive()
+
+	t.PrintReport(archive)
+
+	if t.config.Cleanup {
+		t.cleanup()
+	}
+
+	return nil
+}
+
+// -----------------------------------------------------------------------------
+// Submission
+// -----------------------------------------------------------------------------
+
+func (t *LoadTest) submit(ctx context.Context) {
+	sem := make(chan struct{}, t.config.Burst)
+	var wg sync.WaitGroup
+
+	for i := 0; i < t.config.Workflows; i++ {
+		if i > 0 && i%t.config.Burst == 0 {
+			wg.Wait()
+			fmt.Printf("  Burst %d/%d submitted\n", i/t.config.Burst, int(math.Ceil(float64(t.config.Workflows)/float64(t.config.Burst))))
+			select {
+			case <-ctx.Done():
+				return
+			case <-time.After(t.config.Interval):
+			}
+		}
+
+		namespace := t.config.Namespaces[i%len(t.config.Namespaces)]
+
+		wg.Add(1)
+		sem <- struct{}{}
+		go func() {
+			defer wg.Done()
+			defer func() { <-sem }()
+
+			submittedAt := time.Now()
+			created, err := t.dynamicClient.Resource(workflowGVR).Namespace(namespace).Create(ctx, t.workflow(), metav1.CreateOptions{})
+
+			t.mu.Lock()
+			defer t.mu.Unlock()
+
+			if err != nil {
+				t.submitErrs++
+				return
+			}
+
+			key := namespace + "/" + created.GetName()
+			if sample, ok := t.samples[key]; ok {
+				sample.SubmittedAt = submittedAt
+			} else {
+				t.samples[key] = &Sample{SubmittedAt: submittedAt}
+			}
+		}()
+	}
+
+	wg.Wait()
+}
+
+func (t *LoadTest) workflow() *unstructured.Unstructured {
+	steps := []interface{}{}
+	for i := 0; i < t.config.Steps; i++ {
+		steps = append(steps, []interface{}{
+			map[string]interface{}{"name": fmt.Sprintf("step-%d", i), "template": "work"},
+		})
+	}
+
+	spec := map[string]interface{}{
+		"entrypoint": "main",
+		"podGC":      map[string]interface{}{"strategy": "OnPodCompletion"},
+		"templates": []interface{}{
+			map[string]interface{}{"name": "main", "steps": steps},
+			map[string]interface{}{
+				"name": "work",
+				"container": map[string]interface{}{
+					"image":   t.config.Image,
+					"command": []interface{}{"sh", "-c", fmt.Sprintf("sleep %d", int(t.config.StepDuration.Seconds()))},
+					"resources": map[string]interface{}{
+						"requests": map[string]interface{}{"cpu": "10m", "memory": "16Mi"},
+					},
+				},
+			},
+		},
+	}
+
+	if t.config.ServiceAccount != "" {
+		spec["serviceAccountName"] = t.config.ServiceAccount
+	}
+
+	return &unstructured.Unstructured{Object: map[string]interface{}{
+		"apiVersion": "argoproj.io/v1alpha1",
+		"kind":       "Workflow",
+		"metadata": map[string]interface{}{
+			"generateName": "load-",
+			"labels":       map[string]interface{}{runLabel: t.config.Run},
+		},
+		"spec": spec,
+	}}
+}
+
+func (t *LoadTest) submitted() int {
+	t.mu.Lock()
+	defer t.mu.Unlock()
+	return len(t.samples)
+}
+
+// -----------------------------------------------------------------------------
+// Observation
+// -----------------------------------------------------------------------------
+
+func (t *LoadTest) observe(watcher watch.Interface, done chan struct{}) {
+	for {
+		select {
+		case <-done:
+			return
+		case event, ok := <-watcher.ResultChan():
+			if !ok {
+				return
+			}
+			if event.Type != watch.Added && event.Type != watch.Modified {
+				continue
+			}
+
+			obj, ok := event.Object.(*unstructured.Unstructured)
+			if !ok {
+				continue
+			}
+
+			phase, _, _ := unstructured.NestedString(obj.Object, "status", "phase")
+			now := time.Now()
+			key := obj.GetNamespace() + "/" + obj.GetName()
+
+			t.mu.Lock()
+			sample, exists := t.samples[key]
+			if !exists {
+				// The watch can report the workflow before Create returns.
+				sample = &Sample{}
+				t.samples[key] = sample
+			}
+			switch phase {
+			case "Running":
+				if sample.RunningAt.IsZero() {
+					sample.RunningAt = now
+				}
+			case "Succeeded", "Failed", "Error":
+				if sample.RunningAt.IsZero() {
+					sample.RunningAt = now
+				}
+				if sample.CompletedAt.IsZero() {
+					sample.CompletedAt = now
+					sample.Phase = phase
+				}
+			}
+			t.mu.Unlock()
+		}
+	}
+}
+
+func (t *LoadTest) waitForCompletion(ctx context.Context) {
+	ticker := time.NewTicker(10 * time.Second)
+	defer ticker.Stop()
+
+	for {
+		pending, running, completed := t.progress()
+		fmt.Printf("  pending: %d  running: %d  completed: %d\n", pending, running, completed)
+
+		if completed >= t.config.Workflows-t.submitErrs {
+			return
+		}
+
+		select {
+		case <-ctx.Done():
+			fmt.Printf("  %s⚠%s Timed out with %d workflows unfinished\n", colorYellow, colorReset, pending+running)
+			return
+		case <-ticker.C:
+		}
+	}
+}
+
+func (t *LoadTest) progress() (pending, running, completed int) {
+	t.mu.Lock()
+	defer t.mu.Unlock()
+
+	for _, sample := range t.samples {
+		switch {
+		case !sample.CompletedAt.IsZero():
+			completed++
+		case !sample.RunningAt.IsZero():
+			running++
+		default:
+			pending++
+		}
+	}
+	return
+}
+
+func (t *LoadTest) sampleQueueDepth(ctx context.Context, done chan struct{}) {
+	ticker := time.NewTicker(5 * time.Second)
+	defer ticker.Stop()
+
+	for {
+		select {
+		case <-ctx.Done():
+			return
+		case <-done:
+			return
+		case <-ticker.C:
+		}
+
+		depths, err := t.scrapeQueueDepth()
+		if err != nil {
+			continue
+		}
+
+		t.mu.Lock()
+		for queue, depth := range depths {
+			t.queueDepth[queue] = append(t.queueDepth[queue], depth)
+		}
+		t.mu.Unlock()
+	}
+}
+
+// scrapeQueueDepth reads the controller's work queue depth gauges from its Prometheus endpoint.
+func (t *LoadTest) scrapeQueueDepth() (map[string]float64, error) {
+	resp, err := t.httpClient.Get(t.config.MetricsURL)
+	if err != nil {
+		return nil, err
+	}
+	defer resp.Body.Close()
+
+	depths := map[string]float64{}
+	scanner := bufio.NewScanner(resp.Body)
+	scanner.Buffer(make([]byte, 1024*1024), 1024*1024)
+	for scanner.Scan() {
+		line := scanner.Text()
+		if !strings.HasPrefix(line, "argo_workflows_queue_depth_gauge") && !strings.HasPrefix(line, "argo_workflows_queue_depth_count") {
+			continue
+		}
+
+		fields := strings.Fields(line)
+		if len(fields) < 2 {
+			continue
+		}
+		value, err := strconv.ParseFloat(fields[len(fields)-1], 64)
+		if err != nil {
+			continue
+		}
+
+		queue := "total"
+		if start := strings.Index(line, `queue_name="`); start >= 0 {
+			rest := line[start+len(`queue_name="`):]
+			if end := strings.Index(rest, `"`); end >= 0 {
+				queue = rest[:end]
+			}
+		}
+		depths[queue] += value
+	}
+
+	return depths, scanner.Err()
+}
+
+// -----------------------------------------------------------------------------
+// Archive
+// -----------------------------------------------------------------------------
+
+type ArchiveResult struct {
+	Archived  int
+	Latencies []time.Duration
+	Errors    int
+}
+
+func (t *LoadTest) queryArchive() *ArchiveResult {
+	if t.config.ArgoServer == "" {
+		return nil
+	}
+
+	printHeader("ARCHIVE")
+	result := &ArchiveResult{}
+
+	for _, namespace := range t.config.Namespaces {
+		archived := 0
+		for i := 0; i < t.config.ArchiveQueries; i++ {
+			count, latency, err := t.listArchived(namespace)
+			if err != nil {
+				result.Errors++
+				continue
+			}
+			result.Latencies = append(result.Latencies, latency)
+			archived = max(archived, count)
+		}
+		result.Archived += archived
+	}
+
+	fmt.Printf("  %s✓%s %d archive queries, %d archived workflows found (%d errors)\n", colorGreen, colorReset, len(result.Latencies), result.Archived, result.Errors)
+	return result
+}
+
+func (t *LoadTest) listArchived(namespace string) (int, time.Duration, error) {
+	query := url.Values{}
+	query.Set("namespace", namespace)
+	query.Set("listOptions.labelSelector", fmt.Sprintf("%s=%s", runLabel, t.config.Run))
+
+	req, err := http.NewRequest(http.MethodGet, t.config.ArgoServer+"/api/v1/archived-workflows?"+query.Encode(), nil)
+	if err != nil {
+		return 0, 0, err
+	}
+	if t.config.ArgoToken != "" {
+		req.Header.Set("Authorization", "Bearer "+t.config.ArgoToken)
+	}
+
+	started := time.Now()
+	resp, err := t.httpClient.Do(req)
+	if err != nil {
+		return 0, 0, err
+	}
+	defer resp.Body.Close()
+	latency := time.Since(started)
+
+	if resp.StatusCode != http.StatusOK {
+		return 0, 0, fmt.Errorf("archive query returned %d", resp.StatusCode)
+	}
+
+	var body struct {
+		Items []json.RawMessage `json:"items"`
+	}
+	if err := json.NewDecoder(resp.Body).Decode(&body); err != nil {
+		return 0, 0, err
+	}
+
+	return len(body.Items), latency, nil
+}
+
+// -----------------------------------------------------------------------------
+// Report
+// -----------------------------------------------------------------------------
+
+func (t *LoadTest) PrintReport(archive *ArchiveResult) {
+	printHeader("REPORT")
+
+	t.mu.Lock()
+	defer t.mu.Unlock()
+
+	var toRunning, toCompleted []time.Duration
+	phases := map[string]int{}
+	for _, sample := range t.samples {
+		if sample.SubmittedAt.IsZero() {
+			continue
+		}
+		if !sample.RunningAt.IsZero() {
+			toRunning = append(toRunning, sample.RunningAt.Sub(sample.SubmittedAt))
+		}
+		if !sample.CompletedAt.IsZero() {
+			toCompleted = append(toCompleted, sample.CompletedAt.Sub(sample.SubmittedAt))
+			phases[sample.Phase]++
+		}
+	}
+
+	fmt.Printf("\n  %-28s %10s %10s %10s %10s\n", "", "p50", "p95", "p99", "max")
+	printLatency("submit → running", toRunning)
+	printLatency("submit → completed", toCompleted)
+	if archive != nil {
+		printLatency("archive list", archive.Latencies)
+	}
+
+	fmt.Printf("\n  Completed by phase:\n")
+	for _, phase := range []string{"Succeeded", "Failed", "Error"} {
+		fmt.Printf("    %-12s %d\n", phase, phases[phase])
+	}
+	fmt.Printf("    %-12s %d\n", "submit error", t.submitErrs)
+
+	if len(t.queueDepth) > 0 {
+		fmt.Printf("\n  Controller queue depth:\n")
+		queues := make([]string, 0, len(t.queueDepth))
+		for queue := range t.queueDepth {
+			queues = append(queues, queue)
+		}
+		sort.Strings(queues)
+		for _, queue := range queues {
+			mean, peak := stats(t.queueDepth[queue])
+			fmt.Printf("    %-28s mean %8.1f  max %8.0f\n", queue, mean, peak)
+		}
+	}
+
+	if archive != nil {
+		completed := phases["Succeeded"] + phases["Failed"] + phases["Error"]
+		if archive.Archived < completed {
+			fmt.Printf("\n  %s⚠%s Archive holds %d of %d completed workflows\n", colorYellow, colorReset, archive.Archived, completed)
+		} else {
+			fmt.Printf("\n  %s✓%s Archive holds all %d completed workflows\n", colorGreen, colorReset, completed)
+		}
+	}
+	fmt.Println()
+}
+
+func printLatency(name string, durations []time.Duration) {
+	if len(durations) == 0 {
+		fmt.Printf("  %-28s %10s\n", name, "n/a")
+		return
+	}
+
+	sort.Slice(durations, func(i, j int) bool { return durations[i] < durations[j] })
+	fmt.Printf("  %-28s %10s %10s %10s %10s\n",
+		name,
+		percentile(durations, 0.50).Round(time.Millisecond),
+		percentile(durations, 0.95).Round(time.Millisecond),
+		percentile(durations, 0.99).Round(time.Millisecond),
+		durations[len(durations)-1].Round(time.Millisecond))
+}
+
+// percentile expects sorted durations and uses the nearest-rank method.
+func percentile(sorted []time.Duration, p float64) time.Duration {
+	rank := int(math.Ceil(p*float64(len(sorted)))) - 1
+	if rank < 0 {
+		rank = 0
+	}
+	return sorted[rank]
+}
+
+func stats(values []float64) (mean, peak float64) {
+	for _, v := range values {
+		mean += v
+		if v > peak {
+			peak = v
+		}
+	}
+	return mean / float64(len(values)), peak
+}
+
+func (t *LoadTest) cleanup() {
+	printHeader("CLEANUP")
+	ctx := context.Background()
+
+	for _, namespace := range t.config.Namespaces {
+		err := t.dynamicClient.Resource(workflowGVR).Namespace(namespace).DeleteCollection(ctx, metav1.DeleteOptions{}, metav1.ListOptions{
+			LabelSelector: fmt.Sprintf("%s=%s", runLabel, t.config.Run),
+		})
+		if err != nil {
+			fmt.Printf("  %s✗%s %s: %v\n", colorRed, colorReset, namespace, err)
+			continue
+		}
+		fmt.Printf("  %s✓%s %s\n", colorGreen, colorReset, namespace)
+	}
+}
+
+func printHeader(title string) {
+	fmt.Printf("\n%s━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━%s\n", colorBlue, colorReset)
+	fmt.Printf("%s  %s%s\n", colorBlue, title, colorReset)
+	fmt.Printf("%s━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━%s\n", colorBlue, colorReset)
+}
@@ -0,0 +1,157 @@
+package fasti.sh.idp;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fasti.sh.idp.model.ReleaseContext;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch entry point synthesizing many releases in one JVM.
+ *
+ * <p>
+ * Each release gets its own CDK {@code App} and cloud assembly directory under the output root; deploy one with
+ * {@code cdk deploy --app <output>/<name>}. The jsii kernel behind the CDK is a single-threaded child process per class loader,
+ * so releases are spread over a pool of workers, each holding an isolated class loader (and therefore its own kernel) for all the
+ * releases it synthesizes. JVM start-up, the shared {@code cdk.json} and {@code cdk.context.json} context and kernel start-up
+ * are paid once per run and once per worker instead of once per release. Template renders and construct synthesis are still paid
+ * per release. A release that fails to synthesize is reported and the rest continue; any other worker failure drains the queue,
+ * cancels the remaining workers and fails the run.
+ */
+@Slf4j
+public class BatchLaunch {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /**
+   * Main entry point for the batch launcher.
+   *
+   * @param args
+   *          releases file (JSON list of {@link ReleaseContext}), output root, and optional worker count
+   */
+  public static void main(final String[] args) throws Exception {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("usage: BatchLaunch <releases.json> <output> [workers]");
+    }
+
+    var releases = MAPPER.readValue(Path.of(args[0]).toFile(), new TypeReference<List<ReleaseContext>>() {});
+    var output = Path.of(args[1]);
+    var workers = args.length > 2
+      ? Integer.parseInt(args[2])
+      : Math.min(releases.size(), Runtime.getRuntime().availableProcessors());
+
+    var shared = context();
+    var pending = new ConcurrentLinkedQueue<>(releases);
+    var classpath = classpath();
+
+    log.info("{} [releases: {} workers: {} output: {}]", "BatchLaunch", releases.size(), workers, output);
+
+    var started = System.nanoTime();
+    var failed = new ArrayList<String>();
+
+    var executor = Executors.newFixedThreadPool(Math.max(1, workers));
+    try {
+      var futures = new ArrayList<Future<List<String>>>();
+      for (var i = 0; i < Math.max(1, workers); i++) {
+        futures.add(executor.submit(() -> worker(classpath, shared, pending, output)));
+      }
+
+      try {
+        for (var future : futures) {
+          failed.addAll(future.get());
+        }
+      } catch (ExecutionException | InterruptedException e) {
+        pending.clear();
+        futures.forEach(future -> future.cancel(true));
+        throw e;
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    log.info("{} [synthesized: {} failed: {} seconds: {}]",
+      "BatchLaunch", releases.size() - failed.size(), failed, (System.nanoTime() - started) / 1_000_000_000L);
+
+    if (!failed.isEmpty()) {
+      System.exit(1);
+    }
+  }
+
+  private static List<String> worker(URL[] classpath, Map<String, Object> shared, ConcurrentLinkedQueue<ReleaseContext> pending,
+    Path output) throws Exception {
+    var failed = new ArrayList<String>();
+
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    try (var loader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+      thread.setContextClassLoader(loader);
+      var synth = loader.loadClass(Launch.class.getName()).getMethod("synth", Map.class, String.class);
+
+      ReleaseContext release;
+      while ((release = pending.poll()) != null) {
+        var context = new HashMap<>(shared);
+        context.putAll(release.context());
+
+        var started = System.nanoTime();
+        try {
+          synth.invoke(null, context, output.resolve(release.name()).toString());
+          log.info("{} [release: {} millis: {}]", "BatchLaunch", release.name(), (System.nanoTime() - started) / 1_000_000L);
+        } catch (InvocationTargetException e) {
+          log.error("{} [release: {}]", "BatchLaunch", release.name(), e.getCause());
+          failed.add(release.name());
+        }
+      }
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+
+    return failed;
+  }
+
+  private static Map<String, Object> context() {
+    var context = new HashMap<String, Object>();
+    context.putAll(read(Path.of("cdk.json"), "context"));
+    context.putAll(read(Path.of("cdk.context.json"), null));
+    return context;
+  }
+
+  @SneakyThrows
+  private static Map<String, Object> read(Path path, String key) {
+    if (!Files.exists(path)) {
+      return Map.of();
+    }
+
+    var json = MAPPER.readValue(path.toFile(), new TypeReference<Map<String, Object>>() {});
+    if (key == null) {
+      return json;
+    }
+
+    @SuppressWarnings("unchecked")
+    var nested = (Map<String, Object>) json.getOrDefault(key, Map.of());
+    return nested;
+  }
+
+  @SneakyThrows
+  private static URL[] classpath() {
+    var entries = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator)).toList();
+    var urls = new URL[entries.size()];
+    for (var i = 0; i < entries.size(); i++) {
+      urls[i] = Path.of(entries.get(i)).toUri().toURL();
+    }
+    return urls;
+  }
+}
@@ -7,11 +7,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import fasti.sh.execute.util.ContextUtils;
 import fasti.sh.execute.util.TemplateUtils;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.model.SpokesConf;
 import fasti.sh.idp.stack.IdpStack;
+import fasti.sh.idp.stack.SpokeStack;
 import fasti.sh.model.main.Common;
 import fasti.sh.model.main.Release;
 import java.util.Map;
 import software.amazon.awscdk.App;
+import software.amazon.awscdk.AppProps;
 import software.amazon.awscdk.Environment;
 import software.amazon.awscdk.StackProps;
 
@@ -19,7 +22,8 @@ import software.amazon.awscdk.StackProps;
  * CDK application entry point for IDP infrastructure deployment.
  *
  * <p>
- * Creates a single stack with nested stacks for all IDP components. Deploy with {@code cdk deploy --all}.
+ * Creates the hub stack with nested stacks for all IDP components, plus one lightweight stack per configured spoke cluster. Deploy
+ * the hub first, then the spokes: {@code cdk deploy --all}.
  */
 public class Launch {
 
@@ -32,9 +36,39 @@ public class Launch {
   public static void main(final String[] args) {
     var app = new App();
 
+    release(app);
+
+    app.synth();
+  }
+
+  /**
+   * Synthesizes one release into {@code outdir}. Used by {@link BatchLaunch}, which calls it reflectively from an isolated class
+   * loader, so the signature only uses JDK types.
+   *
+   * @param context
+   *          complete CDK context of the release
+   * @param outdir
+   *          cloud assembly output directory
+   */
+  public static void synth(Map<String, Object> context, String outdir) {
+    var app = new App(
+      AppProps
+        .builder()
+        .context(context)
+        .outdir(outdir)
+        .build());
+
+    release(app);
+
+    app.synth();
+  }
+
+  private static void release(App app) {
+    defaults(app);
+
     var conf = get(app);
 
-    new IdpStack(
+    var hub = new IdpStack(
       app, conf.release(),
       StackProps
         .builder()
@@ -56,7 +90,40 @@ public class Launch {
         .tags(Common.Maps.from(conf.platform().tags(), conf.release().common().tags()))
         .build());
 
-    app.synth();
+    var spokes = TemplateUtils.parseAs(app, conf.release().spokes(), SpokesConf.class);
+    spokes.spokes().forEach(spoke -> new SpokeStack(
+      app, conf.release().common(), spokes, spoke,
+      StackProps
+        .builder()
+        .stackName(name(spoke.id(), "spoke"))
+        .env(
+          Environment
+            .builder()
+            .account(spoke.account())
+            .region(spoke.region())
+            .build())
+        .description(
+          describe(
+            conf.platform(),
+            String
+              .format(
+                "Internal Developer Platform spoke [%s/%s] of [%s]",
+                spoke.id(),
+                spoke.environment(),
+                conf.release().common().id())))
+        .tags(Common.Maps.from(conf.platform().tags(), conf.release().common().tags()))
+        .build())
+      .addDependency(hub));
+  }
+
+  /**
+   * Fills in context flags whose absence must not remove existing resources. Contexts written before a flag existed render it as
+   * false, so the CloudWatch log metric filters and their paging alarms stay until the flag is explicitly turned off.
+   */
+  private static void defaults(App app) {
+    if (app.getNode().tryGetContext("deployment:eks:observability:logMetricFilters") == null) {
+      app.getNode().setContext("deployment:eks:observability:logMetricFilters", true);
+    }
   }
 
   private static Release<IdpReleaseConf> get(App app) {
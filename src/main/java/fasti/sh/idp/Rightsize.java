@@ -0,0 +1,112 @@
+package fasti.sh.idp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import fasti.sh.idp.model.Recommendation;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports VPA recommendations for rightsizing.
+ *
+ * <p>
+ * Reads the VerticalPodAutoscalers Goldilocks creates, either live through {@code kubectl get vpa -A -o json} or from a saved
+ * snapshot of that output, and writes the per-container target recommendations together with the requests the containers run
+ * with, read from their deployments and statefulsets. Point {@code deployment:rightsizing:recommendations} at the written file
+ * and the next synth steps the Helm values from the deployed requests towards the recommendations.
+ */
+@Slf4j
+public class Rightsize {
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  /**
+   * Main entry point for the recommendations exporter.
+   *
+   * @param args
+   *          output file, optional {@code kubectl get vpa -A -o json} snapshot and optional
+   *          {@code kubectl get deployments,statefulsets -A -o json} snapshot; without snapshots the current kube context is read
+   */
+  public static void main(final String[] args) throws Exception {
+    if (args.length < 1) {
+      throw new IllegalArgumentException("usage: Rightsize <recommendations.json> [vpa-snapshot.json [workloads-snapshot.json]]");
+    }
+
+    var output = Path.of(args[0]);
+    var vpas = args.length > 1
+      ? MAPPER.readTree(Path.of(args[1]).toFile())
+      : kubectl("vpa");
+    var workloads = args.length > 2
+      ? MAPPER.readTree(Path.of(args[2]).toFile())
+      : args.length > 1 ? MAPPER.createObjectNode() : kubectl("deployments,statefulsets");
+    var deployed = requests(workloads);
+
+    var recommendations = new ArrayList<Recommendation>();
+    for (var vpa : vpas.path("items")) {
+      var namespace = vpa.path("metadata").path("namespace").asText();
+      var workload = vpa.path("spec").path("targetRef").path("name").asText();
+
+      for (var container : vpa.path("status").path("recommendation").path("containerRecommendations")) {
+        var target = container.path("target");
+        if (target.isMissingNode()) {
+          continue;
+        }
+
+        var name = container.path("containerName").asText();
+        var current = deployed.getOrDefault(String.join("/", namespace, workload, name), MAPPER.createObjectNode());
+        recommendations.add(
+          new Recommendation(
+            namespace,
+            workload,
+            name,
+            target.path("cpu").asText(null),
+            target.path("memory").asText(null),
+            current.path("cpu").asText(null),
+            current.path("memory").asText(null)));
+      }
+    }
+
+    recommendations
+      .sort(
+        Comparator
+          .comparing(Recommendation::namespace)
+          .thenComparing(Recommendation::workload)
+          .thenComparing(Recommendation::container));
+
+    MAPPER.writeValue(output.toFile(), recommendations);
+
+    log.info("{} [vpas: {} recommendations: {} output: {}]", "Rightsize", vpas.path("items").size(), recommendations.size(), output);
+  }
+
+  private static Map<String, JsonNode> requests(JsonNode workloads) {
+    var requests = new HashMap<String, JsonNode>();
+    for (var workload : workloads.path("items")) {
+      var namespace = workload.path("metadata").path("namespace").asText();
+      var name = workload.path("metadata").path("name").asText();
+
+      for (var container : workload.path("spec").path("template").path("spec").path("containers")) {
+        requests.put(String.join("/", namespace, name, container.path("name").asText()), container.path("resources").path("requests"));
+      }
+    }
+
+    return requests;
+  }
+
+  private static JsonNode kubectl(String resources) throws IOException, InterruptedException {
+    var process = new ProcessBuilder("kubectl", "get", resources, "--all-namespaces", "-o", "json")
+      .redirectError(ProcessBuilder.Redirect.INHERIT)
+      .start();
+
+    var items = MAPPER.readTree(process.getInputStream());
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException("kubectl get " + resources + " failed with exit code " + process.exitValue());
+    }
+
+    return items;
+  }
+}
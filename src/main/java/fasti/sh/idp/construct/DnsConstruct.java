@@ -0,0 +1,82 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.DnsConf;
+import fasti.sh.idp.util.AddonUtils;
+import fasti.sh.model.main.Common;
+import java.util.HashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.constructs.Construct;
+
+/**
+ * Cluster DNS capacity for bursty workflow pod starts.
+ *
+ * <p>
+ * CoreDNS replicas are scaled by EKS with node and core count through the managed add-on configuration values. NodeLocal
+ * DNSCache answers lookups on every node and only forwards cache misses to CoreDNS; it is opt-in.
+ */
+@Slf4j
+@Getter
+public class DnsConstruct extends Construct {
+  private final KubernetesManifest nodeLocal;
+
+  /**
+   * Configures the CoreDNS add-on and creates NodeLocal DNSCache.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          DNS configuration
+   * @param image
+   *          node cache image reference
+   * @param addons
+   *          core add-ons holding the CoreDNS managed add-on
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public DnsConstruct(
+    Construct scope,
+    String id,
+    Common common,
+    DnsConf conf,
+    String image,
+    Construct addons,
+    Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {}]", "DnsConstruct", common, conf);
+
+    var coreDns = conf.coreDns();
+    var configurationMappings = new HashMap<String, Object>();
+    configurationMappings.put("coreDns.autoscaling", coreDns.autoscaling());
+    configurationMappings.put("coreDns.minReplicas", coreDns.minReplicas());
+    configurationMappings.put("coreDns.maxReplicas", coreDns.maxReplicas());
+
+    AddonUtils.configure(addons, coreDns.addon(), TemplateUtils.parseAsMap(scope, coreDns.configuration(), configurationMappings));
+
+    if (!conf.nodeLocal()) {
+      this.nodeLocal = null;
+      return;
+    }
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("dns.localAddress", conf.localAddress());
+    templateMappings.put("dns.clusterDns", conf.clusterDns());
+    templateMappings.put("dns.image", image);
+
+    var nodeLocalManifests = TemplateUtils.parseAsList(scope, conf.manifests(), templateMappings);
+    this.nodeLocal = KubernetesManifest.Builder
+      .create(this, "node-local-dns")
+      .cluster(cluster)
+      .manifest(nodeLocalManifests)
+      .overwrite(true)
+      .build();
+  }
+}
@@ -0,0 +1,111 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.ImageCacheConf;
+import fasti.sh.model.main.Common;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.ecr.CfnPullThroughCacheRule;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.constructs.Construct;
+
+/**
+ * ECR pull-through cache for upstream registries with optional lazy image loading.
+ *
+ * <p>
+ * Creates a pull-through cache rule per upstream, lets the node role import upstream images on first pull, and installs an
+ * admission policy rewriting workflow pod images to the cache. When SOCI is enabled, a Bottlerocket node pool running the SOCI
+ * snapshotter is added for large toolchain images.
+ */
+@Slf4j
+@Getter
+public class ImageCacheConstruct extends Construct {
+  private final List<CfnPullThroughCacheRule> rules = new ArrayList<>();
+  private final KubernetesManifest rewrite;
+  private final KubernetesManifest sociNodePool;
+
+  /**
+   * Creates the pull-through cache rules and supporting cluster resources.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          image cache configuration
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public ImageCacheConstruct(Construct scope, String id, Common common, ImageCacheConf conf, Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {}]", "ImageCacheConstruct", common, conf);
+
+    if (!conf.enabled()) {
+      this.rewrite = null;
+      this.sociNodePool = null;
+      return;
+    }
+
+    var repositories = new ArrayList<String>();
+    for (var upstream : conf.upstreams()) {
+      var rule = CfnPullThroughCacheRule.Builder
+        .create(this, upstream.prefix())
+        .ecrRepositoryPrefix(upstream.prefix())
+        .upstreamRegistry(upstream.upstreamRegistry())
+        .upstreamRegistryUrl(upstream.url())
+        .credentialArn(upstream.credential() == null || upstream.credential().isBlank() ? null : upstream.credential())
+        .build();
+
+      this.rules.add(rule);
+      repositories.add(String.format("arn:aws:ecr:%s:%s:repository/%s/*", common.region(), common.account(), upstream.prefix()));
+    }
+
+    Role
+      .fromRoleName(this, "node-role", conf.nodeRole())
+      .addToPrincipalPolicy(
+        PolicyStatement.Builder
+          .create()
+          .actions(List.of("ecr:BatchImportUpstreamImage", "ecr:CreateRepository"))
+          .resources(repositories)
+          .build());
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("registry", conf.registry());
+    templateMappings.put("nodeRole", conf.nodeRole());
+    templateMappings
+      .put(
+        "upstreams",
+        conf.upstreams().stream().map(upstream -> Map.<String, Object>of("prefix", upstream.prefix(), "url", upstream.url())).toList());
+
+    var rewriteManifests = TemplateUtils.parseAsList(scope, conf.rewrite(), templateMappings);
+    this.rewrite = KubernetesManifest.Builder
+      .create(this, "rewrite")
+      .cluster(cluster)
+      .manifest(rewriteManifests)
+      .overwrite(true)
+      .build();
+
+    if (!conf.soci().enabled()) {
+      this.sociNodePool = null;
+      return;
+    }
+
+    var sociManifests = TemplateUtils.parseAsList(scope, conf.soci().nodePool(), templateMappings);
+    this.sociNodePool = KubernetesManifest.Builder
+      .create(this, "soci-node-pool")
+      .cluster(cluster)
+      .manifest(sociManifests)
+      .overwrite(true)
+      .build();
+  }
+}
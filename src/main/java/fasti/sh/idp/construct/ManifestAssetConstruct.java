@@ -0,0 +1,120 @@
+package fasti.sh.idp.construct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Stage;
+import software.amazon.awscdk.Token;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.HelmChart;
+import software.amazon.awscdk.services.s3.assets.Asset;
+import software.constructs.Construct;
+
+/**
+ * Applies rendered manifests from an S3 asset.
+ *
+ * <p>
+ * The manifests are packaged as a local Helm chart and uploaded as a zipped, content-hashed asset, so the custom resource only
+ * carries the asset location and the nested stack template stays the same size as the manifests grow. The backing resource is
+ * always a {@link HelmChart}: switching a manifest set between this and an inline {@code KubernetesManifest} replaces the
+ * resource, so callers choose one per manifest set and keep it. Manifests must be fully resolved at synth time.
+ */
+@Slf4j
+@Getter
+public class ManifestAssetConstruct extends Construct {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Asset asset;
+  private final HelmChart chart;
+
+  /**
+   * Packages the manifests as a chart asset and installs it.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param cluster
+   *          the EKS cluster to deploy to
+   * @param release
+   *          helm release name
+   * @param namespace
+   *          namespace holding the helm release
+   * @param manifests
+   *          rendered manifests
+   */
+  public ManifestAssetConstruct(
+    Construct scope,
+    String id,
+    Cluster cluster,
+    String release,
+    String namespace,
+    List<Map<String, Object>> manifests) {
+    super(scope, id);
+
+    var rendered = render(manifests);
+    if (Token.isUnresolved(rendered)) {
+      throw new IllegalArgumentException("manifests of release " + release + " reference deploy-time values and cannot be offloaded");
+    }
+
+    log.debug("{} [release: {} bytes: {}]", "ManifestAssetConstruct", release, rendered.length());
+
+    this.asset = Asset.Builder
+      .create(this, "asset")
+      .path(chart(Path.of(Stage.of(this).getAssetOutdir(), "manifests", this.getNode().getAddr()), release, rendered))
+      .build();
+
+    this.chart = HelmChart.Builder
+      .create(this, "chart")
+      .cluster(cluster)
+      .wait(true)
+      .timeout(Duration.minutes(15))
+      .createNamespace(true)
+      .chartAsset(this.asset)
+      .namespace(namespace)
+      .release(release)
+      .build();
+  }
+
+  /**
+   * Whether a manifest is fully resolved at synth time and can be offloaded.
+   *
+   * @param manifest
+   *          rendered manifest
+   * @return false when the manifest references deploy-time values
+   */
+  public static boolean resolved(Map<String, Object> manifest) {
+    return !Token.isUnresolved(json(manifest));
+  }
+
+  private static String render(List<Map<String, Object>> manifests) {
+    return manifests
+      .stream()
+      .map(ManifestAssetConstruct::json)
+      .collect(Collectors.joining("\n---\n", "---\n", "\n"));
+  }
+
+  @SneakyThrows
+  private static String json(Map<String, Object> manifest) {
+    return MAPPER.writeValueAsString(manifest);
+  }
+
+  @SneakyThrows
+  private static String chart(Path directory, String name, String rendered) {
+    Files.createDirectories(directory.resolve("templates"));
+    Files.createDirectories(directory.resolve("files"));
+
+    Files.writeString(directory.resolve("Chart.yaml"), "apiVersion: v2\nname: " + name + "\nversion: 1.0.0\n");
+    Files.writeString(directory.resolve("files/manifests.yaml"), rendered);
+    Files.writeString(directory.resolve("templates/manifests.yaml"), "{{ .Files.Get \"files/manifests.yaml\" }}\n");
+
+    return directory.toString();
+  }
+}
@@ -0,0 +1,62 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.MonitoringConf;
+import fasti.sh.model.main.Common;
+import java.util.HashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.constructs.Construct;
+
+/**
+ * Publishes a component's Grafana dashboards and Prometheus alert rules.
+ *
+ * <p>
+ * The template renders GrafanaDashboard resources targeting the operator-managed Grafana instance and PrometheusRule resources for
+ * recording and SLO alert rules. Dashboard JSON is the largest rendered content in the release, so the manifests are always applied
+ * from an S3 chart asset.
+ */
+@Slf4j
+@Getter
+public class MonitoringConstruct extends Construct {
+  private final ManifestAssetConstruct manifest;
+
+  /**
+   * Creates the monitoring resources for a component.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id, also used as the helm release name
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          monitoring configuration
+   * @param template
+   *          template path for the component dashboards and rules
+   * @param clusterName
+   *          cluster label value used to scope queries
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public MonitoringConstruct(
+    Construct scope,
+    String id,
+    Common common,
+    MonitoringConf conf,
+    String template,
+    String clusterName,
+    Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} template: {}]", "MonitoringConstruct", common, template);
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("cluster", clusterName);
+    templateMappings.put("grafana.folder", conf.folder());
+
+    var manifests = TemplateUtils.parseAsList(scope, template, templateMappings);
+    this.manifest = new ManifestAssetConstruct(this, "manifest", cluster, id, conf.operator().namespace(), manifests);
+  }
+}
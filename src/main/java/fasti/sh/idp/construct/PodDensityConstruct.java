@@ -0,0 +1,87 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.PodDensityConf;
+import fasti.sh.idp.util.AddonUtils;
+import fasti.sh.model.main.Common;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesPatch;
+import software.amazon.awscdk.services.eks.PatchType;
+import software.constructs.Construct;
+
+/**
+ * Pod density for workflow-heavy nodes.
+ *
+ * <p>
+ * Turns on VPC CNI prefix delegation so each ENI slot carries a /28 prefix instead of a single secondary address, with one warm
+ * prefix per node so a burst of pods is wired without waiting on EC2. The CNI settings are set as managed add-on configuration
+ * values. Managed node groups pick up the EKS recommended pod limit from the CNI settings when a node launches, so existing
+ * nodes keep their old limit until they are replaced; Karpenter derives its limit from ENI addresses, so the listed
+ * EC2NodeClasses are patched with the matching {@code kubelet.maxPods}.
+ */
+@Slf4j
+@Getter
+public class PodDensityConstruct extends Construct {
+  private final List<KubernetesPatch> nodeClasses = new ArrayList<>();
+
+  /**
+   * Configures the VPC CNI add-on and patches the Karpenter node classes.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          pod density configuration
+   * @param nodeClasses
+   *          EC2NodeClasses receiving the pod limit
+   * @param addons
+   *          core add-ons holding the VPC CNI managed add-on
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public PodDensityConstruct(
+    Construct scope,
+    String id,
+    Common common,
+    PodDensityConf conf,
+    List<String> nodeClasses,
+    Construct addons,
+    Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {}]", "PodDensityConstruct", common, conf);
+
+    if (!conf.enabled()) {
+      return;
+    }
+
+    var configurationMappings = new HashMap<String, Object>();
+    configurationMappings.put("podDensity.warmPrefixTarget", conf.warmPrefixTarget());
+
+    AddonUtils.configure(addons, conf.addon(), TemplateUtils.parseAsMap(scope, conf.configuration(), configurationMappings));
+
+    var restore = new HashMap<String, Object>();
+    restore.put("maxPods", null);
+
+    for (var nodeClass : nodeClasses) {
+      this.nodeClasses.add(
+        KubernetesPatch.Builder
+          .create(this, nodeClass)
+          .cluster(cluster)
+          .resourceName("ec2nodeclass/" + nodeClass)
+          .patchType(PatchType.MERGE)
+          .applyPatch(Map.of("spec", Map.of("kubelet", Map.of("maxPods", conf.maxPods()))))
+          .restorePatch(Map.of("spec", Map.of("kubelet", restore)))
+          .build());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.idp.model.IngressConf;
+import fasti.sh.model.main.Common;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesPatch;
+import software.constructs.Construct;
+
+/**
+ * ALB pod readiness gates for a namespace serving IP-mode ingress targets.
+ *
+ * <p>
+ * The AWS Load Balancer Controller injects a readiness gate into pods created in a labelled namespace, so a rolling update only
+ * proceeds once the new pod is healthy in its target group and old pods drain through the deregistration delay instead of
+ * dropping requests. The namespace is created by the component chart, so the label is patched onto it; pods pick the gate up
+ * from their next rollout.
+ */
+@Slf4j
+@Getter
+public class ReadinessGateConstruct extends Construct {
+  private static final String LABEL = "elbv2.k8s.aws/pod-readiness-gate-inject";
+
+  private final KubernetesPatch label;
+
+  /**
+   * Labels the namespace for readiness gate injection when it is listed in the ingress configuration.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          ingress configuration
+   * @param namespace
+   *          namespace serving ingress targets
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public ReadinessGateConstruct(Construct scope, String id, Common common, IngressConf conf, String namespace, Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {} namespace: {}]", "ReadinessGateConstruct", common, conf, namespace);
+
+    if (!conf.readinessGates().contains(namespace)) {
+      this.label = null;
+      return;
+    }
+
+    this.label = KubernetesPatch.Builder
+      .create(this, "label")
+      .cluster(cluster)
+      .resourceName("namespace/" + namespace)
+      .applyPatch(Map.of("metadata", Map.of("labels", Map.of(LABEL, "enabled"))))
+      .restorePatch(Map.of("metadata", Map.of("labels", Map.of(LABEL, "disabled"))))
+      .build();
+  }
+}
@@ -0,0 +1,164 @@
+package fasti.sh.idp.construct;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.ManifestsConf;
+import fasti.sh.idp.model.SecretSyncConf;
+import fasti.sh.model.main.Common;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.eks.CfnPodIdentityAssociation;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.amazon.awscdk.services.events.EventPattern;
+import software.amazon.awscdk.services.events.Rule;
+import software.amazon.awscdk.services.events.targets.SqsQueue;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.iam.SessionTagsPrincipal;
+import software.amazon.awscdk.services.sqs.Queue;
+import software.amazon.awscdk.services.sqs.QueueEncryption;
+import software.constructs.Construct;
+
+/**
+ * Rotation-driven refresh of external secrets and fan-out of shared credentials to tenant namespaces.
+ *
+ * <p>
+ * Secrets Manager change events are routed by EventBridge to an SQS queue consumed by an Argo Events source. The sensor runs a
+ * short job that force-syncs only the labelled external secrets referencing the changed secret, so rotations propagate in
+ * seconds while periodic polling drops to a long fallback interval. Shared credentials are distributed with one
+ * ClusterExternalSecret each instead of an ExternalSecret per namespace. With {@code manifests.offload}, the in-cluster resources are
+ * applied from an S3 chart asset.
+ */
+@Slf4j
+@Getter
+public class SecretSyncConstruct extends Construct {
+  private final Queue queue;
+  private final Rule rule;
+  private final Role role;
+  private final CfnPodIdentityAssociation podIdentity;
+  private final Construct manifests;
+
+  /**
+   * Creates the event pipeline and in-cluster sync resources.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          secret sync configuration
+   * @param manifests
+   *          manifest placement
+   * @param namespace
+   *          Argo Events namespace running the event source and sensor
+   * @param image
+   *          kubectl image reference, resolved against the image cache
+   * @param cluster
+   *          the EKS cluster to deploy to
+   */
+  public SecretSyncConstruct(
+    Construct scope,
+    String id,
+    Common common,
+    SecretSyncConf conf,
+    ManifestsConf manifests,
+    String namespace,
+    String image,
+    Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {}]", "SecretSyncConstruct", common, conf);
+
+    if (!conf.enabled()) {
+      this.queue = null;
+      this.rule = null;
+      this.role = null;
+      this.podIdentity = null;
+      this.manifests = null;
+      return;
+    }
+
+    this.queue = Queue.Builder
+      .create(this, "queue")
+      .queueName(conf.queue())
+      .retentionPeriod(Duration.seconds(conf.retention()))
+      .encryption(QueueEncryption.SQS_MANAGED)
+      .enforceSsl(true)
+      .build();
+
+    this.rule = Rule.Builder
+      .create(this, "rule")
+      .ruleName(conf.queue())
+      .eventPattern(
+        EventPattern.builder()
+          .source(List.of("aws.secretsmanager"))
+          .detail(Map.of("eventName", conf.events()))
+          .build())
+      .targets(List.of(new SqsQueue(this.queue)))
+      .build();
+
+    this.role = Role.Builder
+      .create(this, "role")
+      .roleName(conf.queue())
+      .assumedBy(new SessionTagsPrincipal(new ServicePrincipal("pods.eks.amazonaws.com")))
+      .build();
+
+    this.queue.grantConsumeMessages(this.role);
+    this.role
+      .addToPrincipalPolicy(
+        PolicyStatement.Builder
+          .create()
+          .actions(List.of("sqs:GetQueueUrl"))
+          .resources(List.of(this.queue.getQueueArn()))
+          .build());
+
+    this.podIdentity = CfnPodIdentityAssociation.Builder
+      .create(this, "pod-identity")
+      .clusterName(cluster.getClusterName())
+      .namespace(namespace)
+      .serviceAccount("secret-sync-events")
+      .roleArn(this.role.getRoleArn())
+      .build();
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("secretSync.namespace", namespace);
+    templateMappings.put("secretSync.queue", conf.queue());
+    templateMappings.put("secretSync.selector", conf.namespaceSelector());
+    templateMappings.put("secretSync.image", image);
+    templateMappings
+      .put(
+        "credentials",
+        conf.credentials()
+          .stream()
+          .map(
+            credential -> Map
+              .<String, Object>of(
+                "name", credential.name(),
+                "secret", credential.secret(),
+                "keys", credential
+                  .keys()
+                  .stream()
+                  .map(key -> Map.<String, Object>of("secretKey", key.secretKey(), "property", key.property()))
+                  .toList()))
+          .toList());
+
+    var rendered = TemplateUtils.parseAsList(scope, conf.manifests(), templateMappings);
+    this.manifests = manifests.offload()
+      ? new ManifestAssetConstruct(this, "manifests", cluster, "secret-sync", namespace, rendered)
+      : KubernetesManifest.Builder
+        .create(this, "manifests")
+        .cluster(cluster)
+        .manifest(rendered)
+        .overwrite(true)
+        .build();
+
+    this.manifests.getNode().addDependency(this.podIdentity);
+  }
+}
@@ -0,0 +1,183 @@
+package fasti.sh.idp.construct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.SpokesConf;
+import fasti.sh.model.main.Common;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.CfnPodIdentityAssociation;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.amazon.awscdk.services.iam.AccountPrincipal;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.iam.SessionTagsPrincipal;
+import software.constructs.Construct;
+
+/**
+ * Hub side of the hub-and-spoke topology.
+ *
+ * <p>
+ * Each spoke stack assumes its own registrar role to publish its endpoint, certificate authority and access role to its hub secret. A
+ * registrar trusts only that spoke's registration role and can only write that spoke's secret. Each secret is materialised as an
+ * ArgoCD cluster secret by External Secrets, and an ApplicationSet with a cluster generator installs the Argo Workflows executor on
+ * every registered spoke. The ArgoCD application controller and server reach spokes through a
+ * pod identity role allowed to assume each spoke's access role.
+ */
+@Slf4j
+@Getter
+public class SpokeRegistryConstruct extends Construct {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final List<String> CONTROLLER_SERVICE_ACCOUNTS = List.of("argocd-application-controller", "argocd-server");
+
+  private final Map<String, Role> registrars = new HashMap<>();
+  private final Role controller;
+  private final List<CfnPodIdentityAssociation> podIdentities = new ArrayList<>();
+  private final KubernetesManifest manifests;
+
+  /**
+   * Creates the per-spoke registrar roles, the controller role and the ArgoCD spoke registry.
+   *
+   * @param scope
+   *          the parent construct
+   * @param id
+   *          construct id
+   * @param common
+   *          shared deployment metadata of the hub
+   * @param conf
+   *          spoke topology
+   * @param namespace
+   *          ArgoCD namespace
+   * @param cluster
+   *          the hub EKS cluster
+   */
+  public SpokeRegistryConstruct(
+    Construct scope,
+    String id,
+    Common common,
+    SpokesConf conf,
+    String namespace,
+    Cluster cluster) {
+    super(scope, id);
+
+    log.debug("{} [common: {} conf: {}]", "SpokeRegistryConstruct", common, conf);
+
+    if (conf.spokes().isEmpty()) {
+      this.controller = null;
+      this.manifests = null;
+      return;
+    }
+
+    for (var spoke : conf.spokes()) {
+      var registration = String.format("arn:aws:iam::%s:role/%s", spoke.account(), conf.registrationRole(spoke.id()));
+
+      var registrar = Role.Builder
+        .create(this, "registrar-" + spoke.id())
+        .roleName(conf.registrarRole(spoke.id()))
+        .assumedBy(new AccountPrincipal(spoke.account()).withConditions(Map.of("ArnEquals", Map.of("aws:PrincipalArn", registration))))
+        .build();
+
+      registrar
+        .addToPrincipalPolicy(
+          PolicyStatement.Builder
+            .create()
+            .actions(
+              List.of(
+                "secretsmanager:CreateSecret",
+                "secretsmanager:PutSecretValue",
+                "secretsmanager:DescribeSecret",
+                "secretsmanager:DeleteSecret"))
+            .resources(
+              List.of(
+                String.format(
+                  "arn:aws:secretsmanager:%s:%s:secret:%s-??????",
+                  common.region(),
+                  common.account(),
+                  conf.secret(spoke.id()))))
+            .build());
+
+      this.registrars.put(spoke.id(), registrar);
+    }
+
+    this.controller = Role.Builder
+      .create(this, "controller")
+      .roleName(conf.controllerRole())
+      .assumedBy(new SessionTagsPrincipal(new ServicePrincipal("pods.eks.amazonaws.com")))
+      .build();
+
+    this.controller
+      .addToPrincipalPolicy(
+        PolicyStatement.Builder
+          .create()
+          .actions(List.of("sts:AssumeRole", "sts:TagSession"))
+          .resources(
+            conf.spokes()
+              .stream()
+              .map(spoke -> String.format("arn:aws:iam::%s:role/%s", spoke.account(), conf.accessRole(spoke.id())))
+              .toList())
+          .build());
+
+    for (var serviceAccount : CONTROLLER_SERVICE_ACCOUNTS) {
+      this.podIdentities.add(
+        CfnPodIdentityAssociation.Builder
+          .create(this, serviceAccount)
+          .clusterName(cluster.getClusterName())
+          .namespace(namespace)
+          .serviceAccount(serviceAccount)
+          .roleArn(this.controller.getRoleArn())
+          .build());
+    }
+
+    var executor = conf.executor();
+    var executorMappings = new HashMap<String, Object>();
+    executorMappings.put("executor.namespace", executor.namespace());
+    executorMappings.put("executor.serviceAccount", executor.serviceAccount());
+    executorMappings.put("executor.controllerServiceAccount", executor.controllerServiceAccount());
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("argocd.namespace", namespace);
+    templateMappings.put("spokes.selector", conf.selector());
+    templateMappings.put("executor.repository", executor.chart().repository());
+    templateMappings.put("executor.chart", executor.chart().name());
+    templateMappings.put("executor.version", executor.chart().version());
+    templateMappings.put("executor.release", executor.chart().release());
+    templateMappings.put("executor.chartNamespace", executor.chart().namespace());
+    templateMappings.put("executor.values", json(TemplateUtils.parseAsMap(scope, executor.chart().values(), executorMappings)));
+    templateMappings
+      .put(
+        "clusters",
+        conf.spokes()
+          .stream()
+          .map(
+            spoke -> Map
+              .<String, Object>of(
+                "id", spoke.id(),
+                "region", spoke.region(),
+                "environment", spoke.environment(),
+                "secret", conf.secret(spoke.id())))
+          .toList());
+
+    var registryManifests = TemplateUtils.parseAsList(scope, conf.registry(), templateMappings);
+    this.manifests = KubernetesManifest.Builder
+      .create(this, "registry")
+      .cluster(cluster)
+      .manifest(registryManifests)
+      .overwrite(true)
+      .prune(true)
+      .build();
+
+    this.podIdentities.forEach(association -> this.manifests.getNode().addDependency(association));
+  }
+
+  @SneakyThrows
+  private static String json(Map<String, Object> values) {
+    return MAPPER.writeValueAsString(values);
+  }
+}
@@ -0,0 +1,64 @@
+package fasti.sh.idp.model;
+
+/**
+ * IDP-specific configuration for Argo Rollouts.
+ *
+ * @param analysisTemplates
+ *          template path for the cluster-scoped AnalysisTemplate library
+ * @param analysis
+ *          shared measurement settings and gate thresholds
+ */
+public record ArgoRolloutsConf(
+  String analysisTemplates,
+  AnalysisConf analysis
+) {
+
+  /**
+   * Measurement settings and thresholds for the built-in analysis templates.
+   *
+   * @param interval
+   *          time between measurements
+   * @param count
+   *          number of measurements per analysis run
+   * @param failureLimit
+   *          failed measurements tolerated before the rollout is aborted
+   * @param inconclusiveLimit
+   *          measurements without data tolerated before the rollout is paused for a manual decision
+   * @param window
+   *          range vector used by rate-based queries
+   * @param namespaceSelector
+   *          label selecting namespaces that receive the prometheus query credentials
+   * @param latencyP95
+   *          maximum p95 request latency in seconds
+   * @param latencyP99
+   *          maximum p99 request latency in seconds
+   * @param errorRate
+   *          maximum ratio of 5xx responses
+   * @param cpuSaturation
+   *          maximum ratio of cpu usage to cpu limits
+   * @param memoryGrowth
+   *          maximum working-set growth ratio over {@code memoryGrowthWindow}
+   * @param memoryGrowthWindow
+   *          lookback used to measure memory growth
+   * @param albTargetResponseTime
+   *          maximum ALB target response time in seconds
+   * @param albErrorRate
+   *          maximum ratio of ALB target 5xx responses
+   */
+  public record AnalysisConf(
+    String interval,
+    int count,
+    int failureLimit,
+    int inconclusiveLimit,
+    String window,
+    String namespaceSelector,
+    double latencyP95,
+    double latencyP99,
+    double errorRate,
+    double cpuSaturation,
+    double memoryGrowth,
+    String memoryGrowthWindow,
+    double albTargetResponseTime,
+    double albErrorRate
+  ) {}
+}
@@ -2,6 +2,7 @@ package fasti.sh.idp.model;
 
 import fasti.sh.model.aws.rds.Rds;
 import fasti.sh.model.aws.s3.S3Bucket;
+import java.util.List;
 
 /**
  * Configuration for Argo Workflows.
@@ -10,8 +11,112 @@ import fasti.sh.model.aws.s3.S3Bucket;
  *          RDS database configuration for Argo Workflows
  * @param bucket
  *          S3 bucket configuration for Argo artifacts
+ * @param controller
+ *          workflow controller throughput configuration
+ * @param artifacts
+ *          artifact garbage collection and bucket retention
+ * @param tenancy
+ *          scheduling tiers, quotas and fair share for the team workflow namespaces
  */
 public record ArgoWorkflowsConf(
   Rds database,
-  S3Bucket bucket
-) {}
+  S3Bucket bucket,
+  ControllerConf controller,
+  ArtifactsConf artifacts,
+  TenancyConf tenancy
+) {
+
+  /**
+   * Workflow controller throughput configuration.
+   *
+   * <p>
+   * The controller is leader-elected and extra replicas are passive standbys, so throughput is raised on the active replica through
+   * its worker pools and Kubernetes API client rate limits rather than by adding replicas.
+   *
+   * @param workers
+   *          number of workflow reconcile workers
+   * @param podCleanupWorkers
+   *          number of pod garbage collection workers
+   * @param ttlWorkers
+   *          number of workflow time to live workers
+   * @param qps
+   *          Kubernetes API client queries per second
+   * @param burst
+   *          Kubernetes API client burst above {@code qps}
+   */
+  public record ControllerConf(
+    int workers,
+    int podCleanupWorkers,
+    int ttlWorkers,
+    int qps,
+    int burst
+  ) {}
+
+  /**
+   * Artifact lifetime.
+   *
+   * <p>
+   * Artifact garbage collection removes a workflow's artifacts when its {@code ttlStrategy} deletes it; bucket lifecycle rules
+   * per team prefix tier and expire whatever outlives its workflow, such as archived logs and artifacts of archived workflows.
+   *
+   * @param gc
+   *          artifact garbage collection strategy ({@code OnWorkflowDeletion}, {@code OnWorkflowCompletion} or {@code Never})
+   * @param ttl
+   *          workflow time to live driving {@code OnWorkflowDeletion}
+   * @param retention
+   *          lifecycle applied to every team prefix without an override
+   * @param teams
+   *          per team namespace lifecycle overrides
+   */
+  public record ArtifactsConf(
+    String gc,
+    TtlConf ttl,
+    RetentionConf retention,
+    List<TeamRetentionConf> teams
+  ) {}
+
+  /**
+   * Workflow time to live in seconds.
+   *
+   * @param secondsAfterCompletion
+   *          fallback after any completion
+   * @param secondsAfterSuccess
+   *          after success
+   * @param secondsAfterFailure
+   *          after failure, kept longer for debugging
+   */
+  public record TtlConf(
+    int secondsAfterCompletion,
+    int secondsAfterSuccess,
+    int secondsAfterFailure
+  ) {}
+
+  /**
+   * Bucket lifecycle for one prefix.
+   *
+   * @param storageClass
+   *          S3 storage class to transition to, e.g. {@code STANDARD_IA} or {@code INTELLIGENT_TIERING}; blank expires in place
+   * @param transitionAfter
+   *          days before transition
+   * @param expireAfter
+   *          days before expiry
+   */
+  public record RetentionConf(
+    String storageClass,
+    int transitionAfter,
+    int expireAfter
+  ) {}
+
+  /**
+   * Lifecycle override for one team namespace.
+   *
+   * @param namespace
+   *          team workflow namespace
+   * @param retention
+   *          lifecycle for the namespace prefix
+   */
+  public record TeamRetentionConf(
+    String namespace,
+    RetentionConf retention
+  ) {}
+}
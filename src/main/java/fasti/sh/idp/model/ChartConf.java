@@ -0,0 +1,26 @@
+package fasti.sh.idp.model;
+
+/**
+ * Helm chart coordinates for IDP-managed add-ons.
+ *
+ * @param name
+ *          chart name
+ * @param repository
+ *          chart repository url
+ * @param release
+ *          helm release name
+ * @param version
+ *          chart version
+ * @param namespace
+ *          namespace the release is installed into
+ * @param values
+ *          template path for the chart values
+ */
+public record ChartConf(
+  String name,
+  String repository,
+  String release,
+  String version,
+  String namespace,
+  String values
+) {}
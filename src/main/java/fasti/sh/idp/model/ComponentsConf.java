@@ -0,0 +1,42 @@
+package fasti.sh.idp.model;
+
+/**
+ * IDP-specific component configuration layered on top of the shared add-ons.
+ *
+ * @param prometheus
+ *          prometheus query endpoint shared by KEDA trigger authentication and analysis
+ * @param keda
+ *          KEDA event-driven autoscaler
+ * @param argoWorkflows
+ *          Argo Workflows controller throughput, artifacts and tenancy
+ * @param argoRollouts
+ *          Argo Rollouts analysis template library
+ * @param monitoring
+ *          component dashboards and alert rules
+ * @param imageCache
+ *          ECR pull-through cache and lazy image loading
+ * @param secretSync
+ *          rotation-driven secret refresh and tenant credential fan-out
+ * @param dns
+ *          NodeLocal DNSCache and CoreDNS autoscaling
+ * @param podDensity
+ *          VPC CNI prefix delegation and Karpenter node pod limit
+ * @param rightsizing
+ *          VPA recommendations merged into component Helm values
+ * @param ingress
+ *          ALB group topology and tuning for the platform UIs
+ */
+public record ComponentsConf(
+  PrometheusConf prometheus,
+  KedaConf keda,
+  ArgoWorkflowsConf argoWorkflows,
+  ArgoRolloutsConf argoRollouts,
+  MonitoringConf monitoring,
+  ImageCacheConf imageCache,
+  SecretSyncConf secretSync,
+  DnsConf dns,
+  PodDensityConf podDensity,
+  RightsizingConf rightsizing,
+  IngressConf ingress,
+  ManifestsConf manifests
+) {}
@@ -0,0 +1,49 @@
+package fasti.sh.idp.model;
+
+/**
+ * Cluster DNS tuning for bursty workflow pod starts.
+ *
+ * @param nodeLocal
+ *          whether NodeLocal DNSCache runs on every node, off by default
+ * @param localAddress
+ *          link-local address the node cache listens on
+ * @param clusterDns
+ *          kube-dns service address, also bound by the node cache so pods need no resolv.conf change
+ * @param image
+ *          node cache image path under registry.k8s.io, pulled through the image cache on the hub
+ * @param manifests
+ *          template path for the NodeLocal DNSCache DaemonSet and supporting resources
+ * @param coreDns
+ *          configuration values applied to the CoreDNS managed add-on
+ */
+public record DnsConf(
+  boolean nodeLocal,
+  String localAddress,
+  String clusterDns,
+  String image,
+  String manifests,
+  CoreDnsConf coreDns
+) {
+
+  /**
+   * CoreDNS managed add-on configuration.
+   *
+   * @param addon
+   *          managed add-on name
+   * @param autoscaling
+   *          whether EKS scales CoreDNS replicas with node and core count
+   * @param minReplicas
+   *          minimum CoreDNS replicas
+   * @param maxReplicas
+   *          maximum CoreDNS replicas
+   * @param configuration
+   *          template path for the add-on configuration values
+   */
+  public record CoreDnsConf(
+    String addon,
+    boolean autoscaling,
+    int minReplicas,
+    int maxReplicas,
+    String configuration
+  ) {}
+}
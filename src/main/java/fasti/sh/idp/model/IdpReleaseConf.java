@@ -11,14 +11,23 @@ import fasti.sh.model.main.Common;
  *          shared deployment metadata
  * @param vpc
  *          VPC configuration for the deployment
+ * @param endpoints
+ *          template path for the VPC endpoints of the deployment
  * @param eks
  *          EKS cluster configuration
  * @param certificate
  *          acm certificate configuration to enable tls for idp public-facing workloads
+ * @param components
+ *          template path for idp-specific component configuration
+ * @param spokes
+ *          template path for the spoke clusters driven by this control plane
  */
 public record IdpReleaseConf(
   Common common,
   NetworkConf vpc,
+  String endpoints,
   KubernetesConf eks,
-  String certificate
+  String certificate,
+  String components,
+  String spokes
 ) {}
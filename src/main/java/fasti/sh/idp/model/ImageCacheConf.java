@@ -0,0 +1,49 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * ECR pull-through caching of upstream container registries.
+ *
+ * @param enabled
+ *          whether cache rules are created and image references are rewritten
+ * @param registry
+ *          private ECR registry host the caches live in
+ * @param nodeRole
+ *          node role allowed to import upstream images on first pull
+ * @param upstreams
+ *          cached upstream registries
+ * @param rewrite
+ *          template path for the admission policy rewriting workflow pod images to the cache
+ * @param soci
+ *          lazy image loading for large toolchain images
+ */
+public record ImageCacheConf(
+  boolean enabled,
+  String registry,
+  String nodeRole,
+  List<PullThroughCacheConf> upstreams,
+  String rewrite,
+  SociConf soci
+) {
+
+  /**
+   * Resolves the registry to pull {@code url} images from: the cache prefix when caching is enabled, the upstream otherwise.
+   *
+   * @param url
+   *          upstream registry host
+   * @return registry host and optional path prefix
+   */
+  public String mirror(String url) {
+    if (!this.enabled()) {
+      return url;
+    }
+
+    return this.upstreams()
+      .stream()
+      .filter(upstream -> upstream.url().equals(url))
+      .findFirst()
+      .map(upstream -> this.registry() + "/" + upstream.prefix())
+      .orElse(url);
+  }
+}
@@ -0,0 +1,67 @@
+package fasti.sh.idp.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ALB ingress topology and tuning for the platform UIs.
+ *
+ * @param shared
+ *          whether every platform UI joins one ALB group instead of its component group
+ * @param group
+ *          shared ALB group name
+ * @param groups
+ *          component ALB group names used when not shared, keyed by component
+ * @param idleTimeout
+ *          ALB idle timeout in seconds, long enough for log streaming and watch connections
+ * @param clientKeepAlive
+ *          seconds a client connection is reused across requests
+ * @param deregistrationDelay
+ *          seconds a draining target keeps serving in-flight requests
+ * @param slowStart
+ *          seconds a new target ramps up its share of requests
+ * @param readinessGates
+ *          namespaces labelled for ALB pod readiness gate injection
+ */
+public record IngressConf(
+  boolean shared,
+  String group,
+  Map<String, String> groups,
+  int idleTimeout,
+  int clientKeepAlive,
+  int deregistrationDelay,
+  int slowStart,
+  List<String> readinessGates
+) {
+
+  /**
+   * Ingress template mappings for a component: ALB group, shared certificate and load balancer and target group attributes.
+   *
+   * @param component
+   *          component key in {@code groups}
+   * @param certificate
+   *          ACM certificate ARN
+   * @return mappings under {@code ingress.*}
+   */
+  public Map<String, Object> mappings(String component, String certificate) {
+    var mappings = new HashMap<String, Object>();
+    mappings.put("ingress.group", this.shared() ? this.group() : this.groups().get(component));
+    mappings.put("ingress.certificate", certificate);
+    mappings
+      .put(
+        "ingress.loadBalancerAttributes",
+        String.format(
+          "routing.http2.enabled=true,idle_timeout.timeout_seconds=%d,client_keep_alive.seconds=%d",
+          this.idleTimeout(),
+          this.clientKeepAlive()));
+    mappings
+      .put(
+        "ingress.targetGroupAttributes",
+        String.format(
+          "deregistration_delay.timeout_seconds=%d,slow_start.duration_seconds=%d",
+          this.deregistrationDelay(),
+          this.slowStart()));
+    return mappings;
+  }
+}
@@ -0,0 +1,14 @@
+package fasti.sh.idp.model;
+
+/**
+ * Configuration for the KEDA event-driven autoscaler.
+ *
+ * @param chart
+ *          KEDA helm chart
+ * @param authentication
+ *          template path for the cluster trigger authentication manifests
+ */
+public record KedaConf(
+  ChartConf chart,
+  String authentication
+) {}
@@ -0,0 +1,12 @@
+package fasti.sh.idp.model;
+
+/**
+ * Placement of large rendered manifests and Helm values.
+ *
+ * @param offload
+ *          whether the ArgoCD RBAC policy and bootstrap apps, the Argo Workflows extra objects, the tenancy manifests and the secret
+ *          sync manifests are applied from S3 chart assets instead of being inlined into the nested stack templates
+ */
+public record ManifestsConf(
+  boolean offload
+) {}
@@ -0,0 +1,48 @@
+package fasti.sh.idp.model;
+
+/**
+ * Grafana dashboard and alert-rule delivery for IDP components.
+ *
+ * <p>
+ * Dashboards are reconciled into the Grafana instance by the Grafana Operator; alert and recording rules are published as
+ * PrometheusRules and synced to the metrics backend by the Alloy collectors.
+ *
+ * @param operator
+ *          Grafana Operator helm chart
+ * @param instance
+ *          template path for the external Grafana instance and shared folder
+ * @param url
+ *          Grafana instance url
+ * @param tokenKey
+ *          property of the Grafana secret holding the service account token
+ * @param folder
+ *          uid of the folder dashboards are imported into
+ * @param cluster
+ *          template path for cluster-wide recording and alert rules
+ * @param argocd
+ *          template path for ArgoCD dashboards and rules
+ * @param argoWorkflows
+ *          template path for Argo Workflows dashboards and rules
+ * @param argoEvents
+ *          template path for Argo Events dashboards and rules
+ * @param argoRollouts
+ *          template path for Argo Rollouts dashboards and rules
+ * @param backstage
+ *          template path for Backstage dashboards and rules
+ * @param velero
+ *          template path for Velero backup and restore dashboards and rules, unset without the DR profile
+ */
+public record MonitoringConf(
+  ChartConf operator,
+  String instance,
+  String url,
+  String tokenKey,
+  String folder,
+  String cluster,
+  String argocd,
+  String argoWorkflows,
+  String argoEvents,
+  String argoRollouts,
+  String backstage,
+  String velero
+) {}
@@ -0,0 +1,28 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * VPC CNI prefix delegation and node pod capacity.
+ *
+ * @param enabled
+ *          whether prefix delegation and the raised pod limit are applied
+ * @param addon
+ *          VPC CNI managed add-on name
+ * @param configuration
+ *          template path for the VPC CNI add-on configuration values
+ * @param warmPrefixTarget
+ *          number of free /28 prefixes kept attached to each node
+ * @param maxPods
+ *          kubelet pod limit for Karpenter-launched nodes
+ * @param nodeClasses
+ *          Karpenter EC2NodeClasses receiving the pod limit
+ */
+public record PodDensityConf(
+  boolean enabled,
+  String addon,
+  String configuration,
+  int warmPrefixTarget,
+  int maxPods,
+  List<String> nodeClasses
+) {}
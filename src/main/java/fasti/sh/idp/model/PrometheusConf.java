@@ -0,0 +1,20 @@
+package fasti.sh.idp.model;
+
+/**
+ * Prometheus-compatible query endpoint and credentials shared by metric consumers (KEDA scalers, Rollouts analysis).
+ *
+ * @param serverAddress
+ *          prometheus-compatible query url
+ * @param secret
+ *          secrets manager secret holding the query credentials
+ * @param usernameKey
+ *          secret property holding the username
+ * @param passwordKey
+ *          secret property holding the password
+ */
+public record PrometheusConf(
+  String serverAddress,
+  String secret,
+  String usernameKey,
+  String passwordKey
+) {}
@@ -0,0 +1,20 @@
+package fasti.sh.idp.model;
+
+/**
+ * ECR pull-through cache rule for an upstream registry.
+ *
+ * @param prefix
+ *          ECR repository prefix the upstream is cached under
+ * @param upstreamRegistry
+ *          ECR upstream registry type, e.g. {@code quay}, {@code docker-hub}, {@code github-container-registry}
+ * @param url
+ *          upstream registry host as it appears in image references
+ * @param credential
+ *          Secrets Manager secret arn with upstream credentials, or empty for anonymous upstreams
+ */
+public record PullThroughCacheConf(
+  String prefix,
+  String upstreamRegistry,
+  String url,
+  String credential
+) {}
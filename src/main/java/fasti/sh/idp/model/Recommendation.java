@@ -0,0 +1,29 @@
+package fasti.sh.idp.model;
+
+/**
+ * VPA target recommendation for one container.
+ *
+ * @param namespace
+ *          workload namespace
+ * @param workload
+ *          deployment or statefulset targeted by the VPA
+ * @param container
+ *          container name within the workload
+ * @param cpu
+ *          recommended CPU request quantity
+ * @param memory
+ *          recommended memory request quantity
+ * @param deployedCpu
+ *          CPU request running when the recommendation was exported, unset when unknown
+ * @param deployedMemory
+ *          memory request running when the recommendation was exported, unset when unknown
+ */
+public record Recommendation(
+  String namespace,
+  String workload,
+  String container,
+  String cpu,
+  String memory,
+  String deployedCpu,
+  String deployedMemory
+) {}
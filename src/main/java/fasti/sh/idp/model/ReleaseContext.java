@@ -0,0 +1,16 @@
+package fasti.sh.idp.model;
+
+import java.util.Map;
+
+/**
+ * One release synthesized by the batch launcher.
+ *
+ * @param name
+ *          output directory name for the release's cloud assembly
+ * @param context
+ *          context values layered over the shared {@code cdk.json} and {@code cdk.context.json} context
+ */
+public record ReleaseContext(
+  String name,
+  Map<String, Object> context
+) {}
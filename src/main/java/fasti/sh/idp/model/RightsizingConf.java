@@ -0,0 +1,42 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * Resource rightsizing from exported VPA recommendations.
+ *
+ * @param recommendations
+ *          path to the recommendations file written by {@code Rightsize}; blank disables rightsizing
+ * @param maxStep
+ *          largest fractional change from the deployed request per export, e.g. {@code 0.5} allows 1/1.5x to 1.5x
+ * @param targets
+ *          Helm values blocks fed by recommendations
+ */
+public record RightsizingConf(
+  String recommendations,
+  double maxStep,
+  List<TargetConf> targets
+) {
+
+  /**
+   * Maps a VPA-recommended container to a {@code resources} block in a Helm release's values.
+   *
+   * @param release
+   *          Helm release the values belong to
+   * @param namespace
+   *          workload namespace
+   * @param workload
+   *          deployment or statefulset targeted by the VPA
+   * @param container
+   *          container name within the workload
+   * @param path
+   *          dotted path of the {@code resources} block in the values
+   */
+  public record TargetConf(
+    String release,
+    String namespace,
+    String workload,
+    String container,
+    String path
+  ) {}
+}
@@ -0,0 +1,77 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * Change-driven distribution of Secrets Manager credentials to tenant namespaces.
+ *
+ * @param enabled
+ *          whether rotation events refresh external secrets and shared credentials are fanned out
+ * @param queue
+ *          SQS queue receiving Secrets Manager change events from EventBridge
+ * @param retention
+ *          queue message retention in seconds
+ * @param events
+ *          Secrets Manager event names that trigger a refresh
+ * @param namespaceSelector
+ *          label selecting tenant namespaces, and the external secrets refreshed on change
+ * @param image
+ *          kubectl image used by the refresh job
+ * @param manifests
+ *          template path for the ClusterExternalSecrets, event source, sensor and RBAC
+ * @param credentials
+ *          shared credentials fanned out to every tenant namespace, none by default; never list platform credentials here
+ */
+public record SecretSyncConf(
+  boolean enabled,
+  String queue,
+  int retention,
+  List<String> events,
+  String namespaceSelector,
+  String image,
+  String manifests,
+  List<CredentialConf> credentials
+) {
+  private static final String POLLING_INTERVAL = "1h";
+
+  /**
+   * Resolves the external secret refresh interval. Change events refresh secrets when sync is enabled, so the configured
+   * interval is only a fallback; without sync polling is the only path, so it stays hourly.
+   *
+   * @param configured
+   *          configured fallback interval
+   * @return refresh interval for external secrets
+   */
+  public String refreshInterval(String configured) {
+    return this.enabled() ? configured : POLLING_INTERVAL;
+  }
+
+  /**
+   * A shared credential replicated by one ClusterExternalSecret.
+   *
+   * @param name
+   *          name of the ClusterExternalSecret and of the Kubernetes secret in each tenant namespace
+   * @param secret
+   *          Secrets Manager secret name
+   * @param keys
+   *          secret keys mapped from JSON properties of the secret
+   */
+  public record CredentialConf(
+    String name,
+    String secret,
+    List<KeyConf> keys
+  ) {}
+
+  /**
+   * Mapping of a Secrets Manager JSON property to a Kubernetes secret key.
+   *
+   * @param secretKey
+   *          key in the Kubernetes secret
+   * @param property
+   *          JSON property of the Secrets Manager secret
+   */
+  public record KeyConf(
+    String secretKey,
+    String property
+  ) {}
+}
@@ -0,0 +1,14 @@
+package fasti.sh.idp.model;
+
+/**
+ * Lazy image loading with SOCI indexes on Bottlerocket nodes.
+ *
+ * @param enabled
+ *          whether the SOCI node pool is created
+ * @param nodePool
+ *          template path for the Karpenter NodePool and EC2NodeClass running the SOCI snapshotter
+ */
+public record SociConf(
+  boolean enabled,
+  String nodePool
+) {}
@@ -0,0 +1,123 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * Hub-and-spoke topology: workload clusters registered with the hub ArgoCD.
+ *
+ * @param registrar
+ *          prefix of the per-spoke hub roles spoke stacks assume to publish their cluster connection details
+ * @param registration
+ *          suffix of the role each spoke's registration custom resource runs as, the only principal trusted by its registrar
+ * @param controllerRole
+ *          hub role used by the ArgoCD application controller and server to reach spoke clusters
+ * @param accessRole
+ *          suffix of the role each spoke creates for the hub, also the Kubernetes group its access entry is bound to
+ * @param secretPrefix
+ *          prefix of the hub Secrets Manager secrets holding spoke connection details
+ * @param selector
+ *          label key marking ArgoCD cluster secrets of spoke clusters
+ * @param registry
+ *          template path for the hub AppProject, cluster secrets and ApplicationSet
+ * @param executor
+ *          Argo Workflows executor installed on every spoke
+ * @param spokes
+ *          registered spoke clusters
+ */
+public record SpokesConf(
+  String registrar,
+  String registration,
+  String controllerRole,
+  String accessRole,
+  String secretPrefix,
+  String selector,
+  String registry,
+  ExecutorConf executor,
+  List<SpokeConf> spokes
+) {
+
+  /**
+   * Name of the hub role a spoke assumes to publish its connection details.
+   *
+   * @param spoke
+   *          spoke deployment id
+   * @return the registrar role name
+   */
+  public String registrarRole(String spoke) {
+    return this.registrar() + "-" + spoke;
+  }
+
+  /**
+   * Name of the spoke role its registration custom resource runs as.
+   *
+   * @param spoke
+   *          spoke deployment id
+   * @return the registration role name
+   */
+  public String registrationRole(String spoke) {
+    return spoke + "-" + this.registration();
+  }
+
+  /**
+   * Name of the spoke role the hub ArgoCD assumes to reach the spoke cluster.
+   *
+   * @param spoke
+   *          spoke deployment id
+   * @return the access role name
+   */
+  public String accessRole(String spoke) {
+    return spoke + "-" + this.accessRole();
+  }
+
+  /**
+   * Name of the hub secret holding a spoke's connection details.
+   *
+   * @param spoke
+   *          spoke deployment id
+   * @return the secret name
+   */
+  public String secret(String spoke) {
+    return this.secretPrefix() + "-" + spoke;
+  }
+
+  /**
+   * A workload cluster driven by the hub.
+   *
+   * @param id
+   *          spoke deployment id, used in place of the hub id for every spoke resource name
+   * @param account
+   *          AWS account of the spoke
+   * @param region
+   *          AWS region of the spoke
+   * @param environment
+   *          environment label used by ApplicationSet cluster generators
+   */
+  public record SpokeConf(
+    String id,
+    String account,
+    String region,
+    String environment
+  ) {}
+
+  /**
+   * Argo Workflows executor namespace and controller on spoke clusters.
+   *
+   * @param namespace
+   *          namespace workflows run in
+   * @param serviceAccount
+   *          service account workflow pods run as
+   * @param controllerServiceAccount
+   *          service account of the workflow controller, whose RBAC the spoke stack applies instead of the chart
+   * @param manifests
+   *          template path for the executor and chart namespaces and RBAC, applied by the spoke stack
+   * @param chart
+   *          controller chart deployed to every spoke by the hub ApplicationSet
+   */
+  public record ExecutorConf(
+    String namespace,
+    String serviceAccount,
+    String controllerServiceAccount,
+    String manifests,
+    ChartConf chart
+  ) {}
+}
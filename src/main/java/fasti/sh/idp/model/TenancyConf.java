@@ -0,0 +1,186 @@
+package fasti.sh.idp.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduling tiers and per-team capacity for the workflow namespaces.
+ *
+ * <p>
+ * Team tiers never preempt, so under contention they order the scheduling queue without evicting platform pods or each other;
+ * quotas, namespace parallelism and semaphores bound what any one team can hold at once. A namespace cannot run pods on a tier
+ * above its own, so a team cannot move itself ahead in the queue.
+ *
+ * @param manifests
+ *          template path for the priority classes, team quotas, limit ranges, semaphores and tier policy
+ * @param platform
+ *          tier for platform components such as the workflow controller; team namespaces cannot use it
+ * @param tiers
+ *          priority classes
+ * @param defaults
+ *          tenant settings for every workflow namespace
+ * @param teams
+ *          per namespace overrides of the defaults
+ */
+public record TenancyConf(
+  String manifests,
+  String platform,
+  List<TierConf> tiers,
+  TenantConf defaults,
+  List<TenantConf> teams
+) {
+
+  /**
+   * Resolves the settings of a workflow namespace: its override where set, the defaults otherwise.
+   *
+   * @param namespace
+   *          workflow namespace
+   * @return tenant settings for the namespace
+   */
+  public TenantConf tenant(String namespace) {
+    var team = this.teams()
+      .stream()
+      .filter(t -> t.namespace().equals(namespace))
+      .findFirst()
+      .orElse(null);
+
+    if (team == null) {
+      return new TenantConf(
+        namespace,
+        this.defaults().tier(),
+        this.defaults().parallelism(),
+        this.defaults().quota(),
+        this.defaults().limits(),
+        this.defaults().semaphores());
+    }
+
+    return new TenantConf(
+      namespace,
+      team.tier() != null ? team.tier() : this.defaults().tier(),
+      team.parallelism() != null ? team.parallelism() : this.defaults().parallelism(),
+      team.quota() != null ? team.quota() : this.defaults().quota(),
+      team.limits() != null ? team.limits() : this.defaults().limits(),
+      team.semaphores() != null ? team.semaphores() : this.defaults().semaphores());
+  }
+
+  /**
+   * Sums the parallelism of the workflow namespaces, used as the controller-wide limit so it never caps below what the tenants are
+   * allowed in total.
+   *
+   * @param namespaces
+   *          workflow namespaces
+   * @return running workflows allowed across the namespaces
+   */
+  public int parallelism(Collection<String> namespaces) {
+    return namespaces
+      .stream()
+      .map(this::tenant)
+      .mapToInt(TenantConf::parallelism)
+      .sum();
+  }
+
+  /**
+   * Lists the tiers a namespace on {@code tier} must not use: every tier with a higher priority value, and always the platform
+   * tier.
+   *
+   * @param tier
+   *          tier of the namespace
+   * @return names of the fenced tiers
+   * @throws IllegalArgumentException
+   *           if {@code tier} is not one of the configured tiers
+   */
+  public List<String> above(String tier) {
+    var value = this.tiers()
+      .stream()
+      .filter(t -> t.name().equals(tier))
+      .mapToInt(TierConf::value)
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("unknown workflow tier " + tier));
+
+    return this.tiers()
+      .stream()
+      .filter(t -> t.value() > value || t.name().equals(this.platform()))
+      .map(TierConf::name)
+      .toList();
+  }
+
+  /**
+   * Priority class.
+   *
+   * @param name
+   *          priority class name
+   * @param value
+   *          priority value
+   * @param preemption
+   *          {@code PreemptLowerPriority} or {@code Never}
+   * @param description
+   *          what the tier is for
+   */
+  public record TierConf(
+    String name,
+    int value,
+    String preemption,
+    String description
+  ) {}
+
+  /**
+   * Settings for one workflow namespace.
+   *
+   * @param namespace
+   *          workflow namespace, unset for the defaults
+   * @param tier
+   *          priority class stamped on the namespace's workflows
+   * @param parallelism
+   *          running workflows allowed in the namespace
+   * @param quota
+   *          namespace resource quota
+   * @param limits
+   *          container defaults and ceilings
+   * @param semaphores
+   *          semaphore ConfigMap entries for templates to synchronize on
+   */
+  public record TenantConf(
+    String namespace,
+    String tier,
+    Integer parallelism,
+    QuotaConf quota,
+    LimitsConf limits,
+    Map<String, Integer> semaphores
+  ) {}
+
+  /**
+   * Namespace resource quota.
+   *
+   * @param cpu
+   *          total CPU requests
+   * @param memory
+   *          total memory requests
+   * @param pods
+   *          pods in non-terminal state
+   */
+  public record QuotaConf(
+    String cpu,
+    String memory,
+    String pods
+  ) {}
+
+  /**
+   * Container limit range.
+   *
+   * @param defaultCpu
+   *          CPU request for containers that set none; no CPU limit is defaulted
+   * @param defaultMemory
+   *          memory request and limit for containers that set none
+   * @param maxCpu
+   *          largest CPU limit a container may set
+   * @param maxMemory
+   *          largest memory limit a container may set
+   */
+  public record LimitsConf(
+    String defaultCpu,
+    String defaultMemory,
+    String maxCpu,
+    String maxMemory
+  ) {}
+}
@@ -0,0 +1,20 @@
+package fasti.sh.idp.model;
+
+/**
+ * A single VPC endpoint for an AWS service.
+ *
+ * @param name
+ *          construct id suffix for the endpoint
+ * @param service
+ *          AWS service name, e.g. {@code s3}, {@code ecr.dkr}, {@code eks-auth}
+ * @param privateDns
+ *          whether the default service hostname resolves to the endpoint (interface endpoints only)
+ * @param policy
+ *          template path for the endpoint policy statements
+ */
+public record VpcEndpointConf(
+  String name,
+  String service,
+  boolean privateDns,
+  String policy
+) {}
@@ -0,0 +1,22 @@
+package fasti.sh.idp.model;
+
+import java.util.List;
+
+/**
+ * VPC endpoints that keep AWS service traffic off the NAT gateways.
+ *
+ * @param enabled
+ *          whether endpoints are created for the release
+ * @param subnetType
+ *          subnet type the interface endpoints are placed in and the gateway endpoints route for
+ * @param gateways
+ *          gateway endpoints (S3)
+ * @param interfaces
+ *          interface endpoints
+ */
+public record VpcEndpointsConf(
+  boolean enabled,
+  String subnetType,
+  List<VpcEndpointConf> gateways,
+  List<VpcEndpointConf> interfaces
+) {}
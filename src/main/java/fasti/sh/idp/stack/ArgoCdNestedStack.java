@@ -2,11 +2,18 @@ package fasti.sh.idp.stack;
 
 import fasti.sh.execute.aws.eks.PodIdentityConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.ManifestAssetConstruct;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.ReadinessGateConstruct;
+import fasti.sh.idp.construct.SpokeRegistryConstruct;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.model.SpokesConf;
+import fasti.sh.idp.util.RightsizingUtils;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.main.Common;
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.Getter;
@@ -24,14 +31,20 @@ import software.constructs.Construct;
  *
  * <p>
  * Deploys ArgoCD with GitHub SSO authentication via Dex. Also generates the SSO client secret used by Argo Workflows to authenticate
- * against ArgoCD's Dex instance.
+ * against ArgoCD's Dex instance. When spoke clusters are configured, they are registered as ArgoCD clusters and receive the Argo
+ * Workflows executor through an ApplicationSet. With {@code manifests.offload}, the RBAC policy and the bootstrap apps are applied
+ * from S3 chart assets instead of the chart values and an inline manifest.
  */
 @Slf4j
 @Getter
 public class ArgoCdNestedStack extends NestedStack {
   private final PodIdentityConstruct podIdentity;
   private final HelmChart chart;
-  private final KubernetesManifest bootstrap;
+  private final ManifestAssetConstruct rbac;
+  private final Construct bootstrap;
+  private final MonitoringConstruct monitoring;
+  private final SpokeRegistryConstruct spokes;
+  private final ReadinessGateConstruct readinessGate;
   private final String argoWorkflowsSsoClientSecret;
   private final String argoRolloutsSsoClientSecret;
 
@@ -44,6 +57,8 @@ public class ArgoCdNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param cluster
    *          the EKS cluster to deploy to
    * @param setup
@@ -55,6 +70,7 @@ public class ArgoCdNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Cluster cluster,
     IdpSetupNestedStack setup,
     NestedStackProps props) {
@@ -79,8 +95,15 @@ public class ArgoCdNestedStack extends NestedStack {
     templateMappings.put("github.oauthSecretName", githubOAuthSecret);
     templateMappings.put("argoWorkflows.ssoClientSecret", this.argoWorkflowsSsoClientSecret);
     templateMappings.put("argoRollouts.ssoClientSecret", this.argoRolloutsSsoClientSecret);
+    templateMappings.putAll(components.ingress().mappings("argocd", setup.certificate().certificate().getCertificateArn()));
 
-    var values = TemplateUtils.parseAsMap(scope, argocd.chart().values(), templateMappings);
+    var offload = components.manifests().offload();
+    var values = RightsizingUtils
+      .apply(
+        components.rightsizing(),
+        argocd.chart().release(),
+        TemplateUtils.parseAsMap(scope, argocd.chart().values(), templateMappings));
+    var rbacManifests = offload ? List.of(rbac(values, argocd.chart().namespace())) : List.<Map<String, Object>>of();
     this.chart = HelmChart.Builder
       .create(this, argocd.chart().name())
       .cluster(cluster)
@@ -96,14 +119,73 @@ public class ArgoCdNestedStack extends NestedStack {
       .values(values)
       .build();
 
+    if (offload) {
+      this.rbac = new ManifestAssetConstruct(this, "rbac", cluster, "argocd-rbac", argocd.chart().namespace(), rbacManifests);
+      this.rbac.getNode().addDependency(this.chart);
+    } else {
+      this.rbac = null;
+    }
+
+    this.readinessGate = new ReadinessGateConstruct(
+      this,
+      "readiness-gate",
+      common,
+      components.ingress(),
+      argocd.chart().namespace(),
+      cluster);
+    this.readinessGate.getNode().addDependency(this.chart);
+
     var bootstrapManifests = TemplateUtils.parseAsList(scope, argocd.bootstrap(), new HashMap<>());
-    this.bootstrap = KubernetesManifest.Builder
-      .create(this, "bootstrap")
-      .cluster(cluster)
-      .manifest(bootstrapManifests)
-      .overwrite(true)
-      .build();
+    this.bootstrap = offload
+      ? new ManifestAssetConstruct(this, "bootstrap", cluster, "argocd-bootstrap", argocd.chart().namespace(), bootstrapManifests)
+      : KubernetesManifest.Builder
+        .create(this, "bootstrap")
+        .cluster(cluster)
+        .manifest(bootstrapManifests)
+        .overwrite(true)
+        .build();
 
     this.bootstrap.getNode().addDependency(this.chart);
+
+    var monitoring = components.monitoring();
+    this.monitoring = new MonitoringConstruct(
+      this,
+      "argocd-monitoring",
+      common,
+      monitoring,
+      monitoring.argocd(),
+      conf.eks().name(),
+      cluster);
+    this.monitoring.getNode().addDependency(this.chart);
+
+    this.spokes = new SpokeRegistryConstruct(
+      this,
+      "spokes",
+      common,
+      TemplateUtils.parseAs(scope, conf.spokes(), SpokesConf.class),
+      argocd.chart().namespace(),
+      cluster);
+    this.spokes.getNode().addDependency(this.chart);
+  }
+
+  /**
+   * Moves the RBAC policy out of the chart values into a standalone argocd-rbac-cm ConfigMap. The policy CSV grows with every team
+   * role, so the chart is told not to render the ConfigMap and only keeps {@code configs.rbac.create: false}.
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> rbac(Map<String, Object> values, String namespace) {
+    var configs = (Map<String, Object>) values.get("configs");
+    var policy = (Map<String, Object>) configs.put("rbac", Map.of("create", false));
+
+    return Map
+      .of(
+        "apiVersion", "v1",
+        "kind", "ConfigMap",
+        "metadata", Map
+          .of(
+            "name", "argocd-rbac-cm",
+            "namespace", namespace,
+            "labels", Map.of("app.kubernetes.io/name", "argocd-rbac-cm", "app.kubernetes.io/part-of", "argocd")),
+        "data", policy);
   }
 }
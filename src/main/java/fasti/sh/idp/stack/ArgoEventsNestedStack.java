@@ -2,9 +2,14 @@ package fasti.sh.idp.stack;
 
 import fasti.sh.execute.aws.eks.PodIdentityConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.SecretSyncConstruct;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.util.RightsizingUtils;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.main.Common;
+import java.util.HashMap;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
@@ -24,6 +29,8 @@ import software.constructs.Construct;
  * <li>NATS JetStream-based event bus</li>
  * <li>Webhook for HTTP event sources</li>
  * <li>Pod Identity-enabled controller service account for AWS integrations</li>
+ * <li>Grafana dashboards and SLO alert rules</li>
+ * <li>Secrets Manager change events refreshing external secrets and fanning out tenant credentials</li>
  * </ul>
  */
 @Slf4j
@@ -31,6 +38,8 @@ import software.constructs.Construct;
 public class ArgoEventsNestedStack extends NestedStack {
   private final PodIdentityConstruct controllerPodIdentity;
   private final HelmChart chart;
+  private final MonitoringConstruct monitoring;
+  private final SecretSyncConstruct secretSync;
 
   /**
    * Creates the Argo Events nested stack.
@@ -41,6 +50,8 @@ public class ArgoEventsNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param cluster
    *          the EKS cluster to deploy to
    * @param setup
@@ -52,6 +63,7 @@ public class ArgoEventsNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Cluster cluster,
     IdpSetupNestedStack setup,
     NestedStackProps props) {
@@ -63,7 +75,14 @@ public class ArgoEventsNestedStack extends NestedStack {
 
     this.controllerPodIdentity = new PodIdentityConstruct(this, common, argoEvents.controllerPodIdentity(), cluster);
 
-    var values = TemplateUtils.parseAsMap(scope, argoEvents.chart().values());
+    var valuesMappings = new HashMap<String, Object>();
+    valuesMappings.put("images.quay", components.imageCache().mirror("quay.io"));
+
+    var values = RightsizingUtils
+      .apply(
+        components.rightsizing(),
+        argoEvents.chart().release(),
+        TemplateUtils.parseAsMap(scope, argoEvents.chart().values(), valuesMappings));
 
     this.chart = HelmChart.Builder
       .create(this, argoEvents.chart().name())
@@ -79,5 +98,27 @@ public class ArgoEventsNestedStack extends NestedStack {
       .version(argoEvents.chart().version())
       .values(values)
       .build();
+
+    var monitoring = components.monitoring();
+    this.monitoring = new MonitoringConstruct(
+      this,
+      "argo-events-monitoring",
+      common,
+      monitoring,
+      monitoring.argoEvents(),
+      conf.eks().name(),
+      cluster);
+    this.monitoring.getNode().addDependency(this.chart);
+
+    this.secretSync = new SecretSyncConstruct(
+      this,
+      "secret-sync",
+      common,
+      components.secretSync(),
+      components.manifests(),
+      argoEvents.chart().namespace(),
+      components.imageCache().mirror("docker.io") + "/" + components.secretSync().image(),
+      cluster);
+    this.secretSync.getNode().addDependency(this.chart);
   }
 }
@@ -2,6 +2,9 @@ package fasti.sh.idp.stack;
 
 import fasti.sh.execute.aws.eks.PodIdentityConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.ReadinessGateConstruct;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.main.Common;
@@ -27,6 +30,8 @@ import software.constructs.Construct;
  * <li>Rollouts controller for canary and blue-green deployments</li>
  * <li>Dashboard UI with GitHub SSO via ALB OIDC</li>
  * <li>Analysis runs for automated rollback decisions</li>
+ * <li>Cluster-scoped AnalysisTemplates for latency, error rate, cpu saturation and memory growth gates</li>
+ * <li>Grafana dashboards and SLO alert rules</li>
  * </ul>
  */
 @Slf4j
@@ -36,6 +41,9 @@ public class ArgoRolloutsNestedStack extends NestedStack {
   private final PodIdentityConstruct dashboardPodIdentity;
   private final HelmChart chart;
   private final KubernetesManifest ingress;
+  private final KubernetesManifest analysisTemplates;
+  private final MonitoringConstruct monitoring;
+  private final ReadinessGateConstruct readinessGate;
 
   /**
    * Creates the Argo Rollouts nested stack.
@@ -46,6 +54,8 @@ public class ArgoRolloutsNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param cluster
    *          the EKS cluster to deploy to
    * @param setup
@@ -59,6 +69,7 @@ public class ArgoRolloutsNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Cluster cluster,
     IdpSetupNestedStack setup,
     ArgoCdNestedStack argocd,
@@ -77,6 +88,8 @@ public class ArgoRolloutsNestedStack extends NestedStack {
     Map<String, Object> templateMappings = new HashMap<>();
     templateMappings.put("domain", domain);
     templateMappings.put("argoRollouts.ssoClientSecret", argocd.argoRolloutsSsoClientSecret());
+    templateMappings.put("images.quay", components.imageCache().mirror("quay.io"));
+    templateMappings.putAll(components.ingress().mappings("argo-rollouts", setup.certificate().certificate().getCertificateArn()));
 
     var values = TemplateUtils.parseAsMap(scope, argoRollouts.chart().values(), templateMappings);
 
@@ -106,5 +119,58 @@ public class ArgoRolloutsNestedStack extends NestedStack {
       .build();
 
     this.ingress.getNode().addDependency(this.chart);
+
+    this.readinessGate = new ReadinessGateConstruct(
+      this,
+      "readiness-gate",
+      common,
+      components.ingress(),
+      argoRollouts.chart().namespace(),
+      cluster);
+    this.readinessGate.getNode().addDependency(this.chart);
+
+    var analysis = components.argoRollouts().analysis();
+
+    var analysisMappings = new HashMap<String, Object>();
+    analysisMappings.put("cluster", conf.eks().name());
+    analysisMappings.put("prometheus.serverAddress", components.prometheus().serverAddress());
+    analysisMappings.put("prometheus.secret", components.prometheus().secret());
+    analysisMappings.put("prometheus.usernameKey", components.prometheus().usernameKey());
+    analysisMappings.put("prometheus.passwordKey", components.prometheus().passwordKey());
+    analysisMappings.put("analysis.interval", analysis.interval());
+    analysisMappings.put("analysis.count", analysis.count());
+    analysisMappings.put("analysis.failureLimit", analysis.failureLimit());
+    analysisMappings.put("analysis.inconclusiveLimit", analysis.inconclusiveLimit());
+    analysisMappings.put("analysis.window", analysis.window());
+    analysisMappings.put("analysis.namespaceSelector", analysis.namespaceSelector());
+    analysisMappings.put("analysis.latencyP95", analysis.latencyP95());
+    analysisMappings.put("analysis.latencyP99", analysis.latencyP99());
+    analysisMappings.put("analysis.errorRate", analysis.errorRate());
+    analysisMappings.put("analysis.cpuSaturation", analysis.cpuSaturation());
+    analysisMappings.put("analysis.memoryGrowth", analysis.memoryGrowth());
+    analysisMappings.put("analysis.memoryGrowthWindow", analysis.memoryGrowthWindow());
+    analysisMappings.put("analysis.albTargetResponseTime", analysis.albTargetResponseTime());
+    analysisMappings.put("analysis.albErrorRate", analysis.albErrorRate());
+
+    var analysisManifests = TemplateUtils.parseAsList(scope, components.argoRollouts().analysisTemplates(), analysisMappings);
+    this.analysisTemplates = KubernetesManifest.Builder
+      .create(this, "argo-rollouts-analysis-templates")
+      .cluster(cluster)
+      .overwrite(true)
+      .prune(true)
+      .manifest(analysisManifests)
+      .build();
+
+    this.analysisTemplates.getNode().addDependency(this.chart);
+
+    this.monitoring = new MonitoringConstruct(
+      this,
+      "argo-rollouts-monitoring",
+      common,
+      components.monitoring(),
+      components.monitoring().argoRollouts(),
+      conf.eks().name(),
+      cluster);
+    this.monitoring.getNode().addDependency(this.chart);
   }
 }
@@ -2,11 +2,19 @@ package fasti.sh.idp.stack;
 
 import fasti.sh.execute.aws.eks.PodIdentityConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.ManifestAssetConstruct;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.ReadinessGateConstruct;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.util.RightsizingUtils;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.aws.eks.addon.argo.ArgoWorkflowSetup;
 import fasti.sh.model.main.Common;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
@@ -26,7 +34,13 @@ import software.constructs.Construct;
  * <li>PostgreSQL persistence for workflow archive</li>
  * <li>S3 artifact storage</li>
  * <li>Pod Identity for server, controller, and executor</li>
+ * <li>Workflow controller worker pools and API client rate limits sized for throughput</li>
+ * <li>Grafana dashboards and SLO alert rules</li>
  * </ul>
+ *
+ * <p>
+ * With {@code manifests.offload}, the chart's extra objects that resolve at synth time are applied from an S3 chart asset; objects
+ * referencing deploy-time values stay in the chart values.
  */
 @Slf4j
 @Getter
@@ -35,6 +49,9 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
   private final PodIdentityConstruct controllerPodIdentity;
   private final PodIdentityConstruct executorPodIdentity;
   private final HelmChart chart;
+  private final ManifestAssetConstruct extraObjects;
+  private final MonitoringConstruct monitoring;
+  private final ReadinessGateConstruct readinessGate;
 
   /**
    * Creates the Argo Workflows nested stack.
@@ -45,6 +62,8 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param cluster
    *          the EKS cluster to deploy to
    * @param setup
@@ -58,6 +77,7 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Cluster cluster,
     IdpSetupNestedStack setup,
     ArgoCdNestedStack argocd,
@@ -77,6 +97,9 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
 
     var argoWorkflows = TemplateUtils.parseAs(scope, conf.eks().addons(), AddonsConf.class).argoWorkflows();
     var argoWorkflowsSetup = TemplateUtils.parseAs(scope, argoWorkflows.setup(), ArgoWorkflowSetup.class);
+    var controller = components.argoWorkflows().controller();
+    var artifacts = components.argoWorkflows().artifacts();
+    var tenancy = components.argoWorkflows().tenancy();
 
     this.serverPodIdentity = new PodIdentityConstruct(this, common, argoWorkflowsSetup.serverPodIdentity(), cluster);
     this.controllerPodIdentity = new PodIdentityConstruct(this, common, argoWorkflowsSetup.controllerPodIdentity(), cluster);
@@ -96,8 +119,26 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
     templateMappings.put("argoWorkflows.db.secretName", argoWorkflowsSetupStack.database().secretConstruct().secret().getSecretName());
     templateMappings.put("argoWorkflows.db.name", argoWorkflowsSetup.database().databaseName());
     templateMappings.put("argoWorkflows.ssoClientSecret", argocd.argoWorkflowsSsoClientSecret());
+    templateMappings.put("argoWorkflows.controller.workers", controller.workers());
+    templateMappings.put("argoWorkflows.controller.podCleanupWorkers", controller.podCleanupWorkers());
+    templateMappings.put("argoWorkflows.controller.ttlWorkers", controller.ttlWorkers());
+    templateMappings.put("argoWorkflows.controller.qps", controller.qps());
+    templateMappings.put("argoWorkflows.controller.burst", controller.burst());
+    templateMappings.put("artifacts.gc", artifacts.gc());
+    templateMappings.put("artifacts.ttl.secondsAfterCompletion", artifacts.ttl().secondsAfterCompletion());
+    templateMappings.put("artifacts.ttl.secondsAfterSuccess", artifacts.ttl().secondsAfterSuccess());
+    templateMappings.put("artifacts.ttl.secondsAfterFailure", artifacts.ttl().secondsAfterFailure());
+    templateMappings.put("tenancy.platform", tenancy.platform());
+    templateMappings.put("tenancy.parallelism", tenancy.parallelism(argoWorkflowsSetupStack.teamNamespaces().keySet()));
+    templateMappings.put("images.quay", components.imageCache().mirror("quay.io"));
+    templateMappings.putAll(components.ingress().mappings("argo-workflows", setup.certificate().certificate().getCertificateArn()));
 
-    var values = TemplateUtils.parseAsMap(scope, argoWorkflows.chart().values(), templateMappings);
+    var values = RightsizingUtils
+      .apply(
+        components.rightsizing(),
+        argoWorkflows.chart().release(),
+        TemplateUtils.parseAsMap(scope, argoWorkflows.chart().values(), templateMappings));
+    var extraObjects = components.manifests().offload() ? offload(values) : List.<Map<String, Object>>of();
 
     this.chart = HelmChart.Builder
       .create(this, argoWorkflows.chart().name())
@@ -113,5 +154,49 @@ public class ArgoWorkflowsNestedStack extends NestedStack {
       .version(argoWorkflows.chart().version())
       .values(values)
       .build();
+
+    if (extraObjects.isEmpty()) {
+      this.extraObjects = null;
+    } else {
+      this.extraObjects = new ManifestAssetConstruct(
+        this,
+        "extra-objects",
+        cluster,
+        "argo-workflows-extra-objects",
+        argoWorkflows.chart().namespace(),
+        extraObjects);
+      this.extraObjects.getNode().addDependency(this.chart);
+    }
+
+    this.readinessGate = new ReadinessGateConstruct(
+      this,
+      "readiness-gate",
+      common,
+      components.ingress(),
+      argoWorkflows.chart().namespace(),
+      cluster);
+    this.readinessGate.getNode().addDependency(this.chart);
+
+    this.monitoring = new MonitoringConstruct(
+      this,
+      "argo-workflows-monitoring",
+      common,
+      components.monitoring(),
+      components.monitoring().argoWorkflows(),
+      conf.eks().name(),
+      cluster);
+    this.monitoring.getNode().addDependency(this.chart);
+  }
+
+  /**
+   * Takes the synth-time resolvable extra objects out of the chart values and returns them.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> offload(Map<String, Object> values) {
+    var objects = (List<Map<String, Object>>) values.getOrDefault("extraObjects", List.of());
+    var split = objects.stream().collect(Collectors.partitioningBy(ManifestAssetConstruct::resolved));
+
+    values.put("extraObjects", split.get(false));
+    return split.get(true);
   }
 }
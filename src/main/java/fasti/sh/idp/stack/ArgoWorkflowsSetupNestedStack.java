@@ -4,7 +4,11 @@ import fasti.sh.execute.aws.eks.NamespaceConstruct;
 import fasti.sh.execute.aws.rds.RdsConstruct;
 import fasti.sh.execute.aws.s3.BucketConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.ManifestAssetConstruct;
+import fasti.sh.idp.model.ArgoWorkflowsConf;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.model.TenancyConf;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.aws.eks.addon.argo.ArgoWorkflowSetup;
 import fasti.sh.model.main.Common;
@@ -14,10 +18,15 @@ import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.NestedStack;
 import software.amazon.awscdk.NestedStackProps;
 import software.amazon.awscdk.services.ec2.Vpc;
 import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.s3.StorageClass;
+import software.amazon.awscdk.services.s3.Transition;
 import software.constructs.Construct;
 
 /**
@@ -27,10 +36,14 @@ import software.constructs.Construct;
  * Creates infrastructure resources required by Argo Workflows:
  * <ul>
  * <li>Kubernetes namespace for Argo Workflows</li>
- * <li>Team workflow namespaces</li>
- * <li>S3 bucket for artifact storage</li>
+ * <li>Team workflow namespaces labelled with their parallelism limit</li>
+ * <li>Priority tiers, and per-team quotas, limit ranges, semaphores and tier policy</li>
+ * <li>S3 bucket for artifact storage, with per-team tiering and expiry</li>
  * <li>RDS PostgreSQL database for workflow archive</li>
  * </ul>
+ *
+ * <p>
+ * The tenancy manifests grow with every team; with {@code manifests.offload} they are applied from an S3 chart asset.
  */
 @Slf4j
 @Getter
@@ -39,6 +52,7 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
   private final BucketConstruct artifactsBucket;
   private final RdsConstruct database;
   private final Map<String, NamespaceConstruct> teamNamespaces;
+  private final Construct tenancy;
 
   /**
    * Creates the Argo Workflows setup nested stack.
@@ -49,6 +63,8 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param vpc
    *          VPC for database placement
    * @param cluster
@@ -60,6 +76,7 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Vpc vpc,
     Cluster cluster,
     NestedStackProps props) {
@@ -79,6 +96,26 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
 
     this.artifactsBucket = new BucketConstruct(scope, common, argoWorkflowsSetup.artifactBucket());
 
+    var artifacts = components.argoWorkflows().artifacts();
+    var tenancy = components.argoWorkflows().tenancy();
+    this.artifactsBucket.bucket()
+      .addLifecycleRule(
+        LifecycleRule.builder()
+          .id("abort-incomplete-uploads")
+          .abortIncompleteMultipartUploadAfter(Duration.days(1))
+          .build());
+
+    argoWorkflowsSetup.workflowNamespaces().forEach(ns -> {
+      var retention = artifacts.teams()
+        .stream()
+        .filter(team -> team.namespace().equals(ns))
+        .map(ArgoWorkflowsConf.TeamRetentionConf::retention)
+        .findFirst()
+        .orElse(artifacts.retention());
+
+      this.artifactsBucket.bucket().addLifecycleRule(lifecycle(ns, retention));
+    });
+
     this.database = new RdsConstruct(
       this,
       common,
@@ -88,10 +125,16 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
 
     this.teamNamespaces = new HashMap<>();
     argoWorkflowsSetup.workflowNamespaces().forEach(ns -> {
+      var labels = new HashMap<String, String>();
+      if (argoWorkflowsSetup.labels() != null) {
+        labels.putAll(argoWorkflowsSetup.labels());
+      }
+      labels.put("workflows.argoproj.io/parallelism-limit", String.valueOf(tenancy.tenant(ns).parallelism()));
+
       var metadata = new ObjectMetaBuilder()
         .withName(ns)
         .withNamespace(ns)
-        .withLabels(argoWorkflowsSetup.labels())
+        .withLabels(labels)
         .withAnnotations(argoWorkflowsSetup.annotations())
         .build();
 
@@ -100,5 +143,100 @@ public class ArgoWorkflowsSetupNestedStack extends NestedStack {
 
       this.teamNamespaces.put(ns, team);
     });
+
+    var tenants = argoWorkflowsSetup.workflowNamespaces()
+      .stream()
+      .map(tenancy::tenant)
+      .toList();
+
+    var tenancyMappings = new HashMap<String, Object>();
+    tenancyMappings
+      .put(
+        "tiers",
+        tenancy.tiers()
+          .stream()
+          .map(
+            tier -> Map
+              .<String, Object>of(
+                "name", tier.name(),
+                "value", tier.value(),
+                "preemption", tier.preemption(),
+                "description", tier.description()))
+          .toList());
+    tenancyMappings
+      .put(
+        "tenants",
+        tenants
+          .stream()
+          .map(
+            tenant -> Map
+              .<String, Object>of(
+                "namespace", tenant.namespace(),
+                "fenced", tenancy.above(tenant.tier()),
+                "quota", Map.of("cpu", tenant.quota().cpu(), "memory", tenant.quota().memory(), "pods", tenant.quota().pods()),
+                "limits", Map
+                  .of(
+                    "defaultCpu", tenant.limits().defaultCpu(),
+                    "defaultMemory", tenant.limits().defaultMemory(),
+                    "maxCpu", tenant.limits().maxCpu(),
+                    "maxMemory", tenant.limits().maxMemory()),
+                "semaphores", tenant.semaphores()
+                  .entrySet()
+                  .stream()
+                  .map(semaphore -> Map.<String, Object>of("key", semaphore.getKey(), "value", semaphore.getValue()))
+                  .toList()))
+          .toList());
+
+    var tierRules = tenancy.tiers()
+      .stream()
+      .filter(tier -> tenants.stream().anyMatch(tenant -> tier.name().equals(tenant.tier())))
+      .map(
+        tier -> Map
+          .<String, Object>of(
+            "tier", tier.name(),
+            "namespaces", tenants
+              .stream()
+              .filter(tenant -> tier.name().equals(tenant.tier()))
+              .map(TenancyConf.TenantConf::namespace)
+              .toList()))
+      .toList();
+    tenancyMappings.put("tierRules", tierRules);
+    tenancyMappings.put("tierPolicy", !tierRules.isEmpty());
+
+    var tenancyManifests = TemplateUtils.parseAsList(scope, tenancy.manifests(), tenancyMappings);
+    this.tenancy = components.manifests().offload()
+      ? new ManifestAssetConstruct(
+        this,
+        "tenancy",
+        cluster,
+        "argo-workflows-tenancy",
+        addons.argoWorkflows().chart().namespace(),
+        tenancyManifests)
+      : KubernetesManifest.Builder
+        .create(this, "tenancy")
+        .cluster(cluster)
+        .manifest(tenancyManifests)
+        .overwrite(true)
+        .build();
+
+    this.teamNamespaces.values().forEach(team -> this.tenancy.getNode().addDependency(team));
+  }
+
+  private static LifecycleRule lifecycle(String namespace, ArgoWorkflowsConf.RetentionConf retention) {
+    var rule = LifecycleRule.builder()
+      .id("artifacts-" + namespace)
+      .prefix("artifacts/" + namespace + "/")
+      .expiration(Duration.days(retention.expireAfter()));
+
+    if (retention.storageClass() != null && !retention.storageClass().isBlank()) {
+      rule.transitions(
+        List.of(
+          Transition.builder()
+            .storageClass(new StorageClass(retention.storageClass()))
+            .transitionAfter(Duration.days(retention.transitionAfter()))
+            .build()));
+    }
+
+    return rule.build();
   }
 }
@@ -6,11 +6,15 @@ import fasti.sh.execute.aws.ecr.DockerImageConstruct;
 import fasti.sh.execute.aws.eks.PodIdentityConstruct;
 import fasti.sh.execute.aws.rds.RdsConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.ReadinessGateConstruct;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.util.RightsizingUtils;
 import fasti.sh.model.aws.eks.addon.AddonsConf;
 import fasti.sh.model.aws.eks.addon.backstage.BackstageSetup;
 import fasti.sh.model.main.Common;
-import java.util.Map;
+import java.util.HashMap;
 import lombok.Getter;
 import software.amazon.awscdk.NestedStack;
 import software.amazon.awscdk.NestedStackProps;
@@ -32,6 +36,7 @@ import software.constructs.Construct;
  * <li>GitHub OAuth secret lookup (pre-existing secret)</li>
  * <li>Pod Identity for Backstage service account</li>
  * <li>Backstage Helm chart deployment to EKS</li>
+ * <li>Grafana dashboards and SLO alert rules</li>
  * </ul>
  *
  * <p>
@@ -50,6 +55,8 @@ public class BackstageNestedStack extends NestedStack {
   private final ICertificate certificate;
   private final DockerImageConstruct dockerImage;
   private final HelmChart backstageChart;
+  private final MonitoringConstruct monitoring;
+  private final ReadinessGateConstruct readinessGate;
 
   /**
    * Creates a new BackstageNestedStack.
@@ -60,6 +67,8 @@ public class BackstageNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          the Backstage release configuration
+   * @param components
+   *          IDP component configuration
    * @param cluster
    *          the EKS cluster to deploy to
    * @param setup
@@ -71,6 +80,7 @@ public class BackstageNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Cluster cluster,
     IdpSetupNestedStack setup,
     NestedStackProps props) {
@@ -88,22 +98,20 @@ public class BackstageNestedStack extends NestedStack {
 
     var githubOAuthSecret = (String) this.getNode().getContext("deployment:github:oauth:backstage");
 
-    var mappings = Map
-      .<String, Object>of(
-        "database.host",
-        this.database.cluster().getClusterEndpoint().getHostname(),
-        "database.port",
-        "5432",
-        "database.secretArn",
-        this.database.secretConstruct().secret().getSecretArn(),
-        "database.secretName",
-        this.database.secretConstruct().secret().getSecretName(),
-        "auth.github.awsSecretName",
-        githubOAuthSecret,
-        "image.uri",
-        this.dockerImage.imageUri());
+    var mappings = new HashMap<String, Object>();
+    mappings.put("database.host", this.database.cluster().getClusterEndpoint().getHostname());
+    mappings.put("database.port", "5432");
+    mappings.put("database.secretArn", this.database.secretConstruct().secret().getSecretArn());
+    mappings.put("database.secretName", this.database.secretConstruct().secret().getSecretName());
+    mappings.put("auth.github.awsSecretName", githubOAuthSecret);
+    mappings.put("image.uri", this.dockerImage.imageUri());
+    mappings.putAll(components.ingress().mappings("backstage", this.certificate.getCertificateArn()));
 
-    var values = TemplateUtils.parseAsMap(this, backstage.chart().values(), mappings);
+    var values = RightsizingUtils
+      .apply(
+        components.rightsizing(),
+        backstage.chart().release(),
+        TemplateUtils.parseAsMap(this, backstage.chart().values(), mappings));
 
     this.backstageChart = HelmChart.Builder
       .create(this, id("backstage", "chart"))
@@ -120,5 +128,25 @@ public class BackstageNestedStack extends NestedStack {
       .values(values)
       .createNamespace(true)
       .build();
+
+    this.readinessGate = new ReadinessGateConstruct(
+      this,
+      "readiness-gate",
+      common,
+      components.ingress(),
+      backstage.chart().namespace(),
+      cluster);
+    this.readinessGate.getNode().addDependency(this.backstageChart);
+
+    var monitoring = components.monitoring();
+    this.monitoring = new MonitoringConstruct(
+      this,
+      "backstage-monitoring",
+      common,
+      monitoring,
+      monitoring.backstage(),
+      conf.eks().name(),
+      cluster);
+    this.monitoring.getNode().addDependency(this.backstageChart);
   }
 }
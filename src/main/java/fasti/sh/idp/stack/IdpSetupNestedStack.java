@@ -2,6 +2,7 @@ package fasti.sh.idp.stack;
 
 import fasti.sh.execute.aws.acm.AcmCertificateConstruct;
 import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
 import fasti.sh.model.aws.acm.AcmCertificate;
 import fasti.sh.model.main.Common;
@@ -43,6 +44,8 @@ public class IdpSetupNestedStack extends NestedStack {
    *          shared deployment metadata
    * @param conf
    *          IDP release configuration
+   * @param components
+   *          IDP component configuration
    * @param vpc
    *          VPC for database placement
    * @param cluster
@@ -54,6 +57,7 @@ public class IdpSetupNestedStack extends NestedStack {
     Construct scope,
     Common common,
     IdpReleaseConf conf,
+    ComponentsConf components,
     Vpc vpc,
     Cluster cluster,
     NestedStackProps props) {
@@ -77,6 +81,7 @@ public class IdpSetupNestedStack extends NestedStack {
       this,
       common,
       conf,
+      components,
       vpc,
       cluster,
       NestedStackProps.builder().build());
@@ -7,6 +7,8 @@ import fasti.sh.execute.aws.eks.AddonsNestedStack;
 import fasti.sh.execute.aws.eks.EksNestedStack;
 import fasti.sh.execute.aws.eks.ObservabilityAddonsNestedStack;
 import fasti.sh.execute.aws.vpc.NetworkNestedStack;
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.ComponentsConf;
 import fasti.sh.idp.model.IdpReleaseConf;
 import lombok.Getter;
 import software.amazon.awscdk.NestedStackProps;
@@ -21,9 +23,11 @@ import software.constructs.Construct;
  * Orchestrates all nested stacks in the correct dependency order:
  * <ol>
  * <li>Network - VPC and networking infrastructure</li>
+ * <li>VPC Endpoints - Private AWS service access (S3, ECR, STS, etc.)</li>
  * <li>EKS - Kubernetes cluster</li>
  * <li>Core Addons - Essential cluster add-ons (Karpenter, cert-manager, etc.)</li>
  * <li>Observability Addons - Monitoring and logging (Grafana, Alloy)</li>
+ * <li>Platform Addons - IDP-specific add-ons (KEDA, Grafana Operator, cluster DNS)</li>
  * <li>IDP Setup - Shared resources (certificates) and component setups</li>
  * <li>Backstage - Developer portal</li>
  * <li>ArgoCD - GitOps deployment</li>
@@ -34,10 +38,13 @@ import software.constructs.Construct;
  */
 @Getter
 public class IdpStack extends Stack {
+  private final ComponentsConf components;
   private final NetworkNestedStack network;
+  private final VpcEndpointsNestedStack vpcEndpoints;
   private final EksNestedStack eks;
   private final AddonsNestedStack coreAddons;
   private final ObservabilityAddonsNestedStack observabilityAddons;
+  private final PlatformAddonsNestedStack platformAddons;
   private final IdpSetupNestedStack setup;
   private final BackstageNestedStack backstage;
   private final ArgoCdNestedStack argocd;
@@ -58,6 +65,11 @@ public class IdpStack extends Stack {
   public IdpStack(Construct scope, IdpReleaseConf conf, StackProps props) {
     super(scope, id("idp", conf.common().version()), props);
 
+    this.components = TemplateUtils.parseAs(this, conf.components(), ComponentsConf.class);
+
+    var refreshInterval = String.valueOf(this.getNode().tryGetContext("deployment:eks:secrets:refreshInterval"));
+    this.getNode().setContext("deployment:eks:secrets:refreshInterval", this.components.secretSync().refreshInterval(refreshInterval));
+
     this.network = new NetworkNestedStack(
       this,
       conf.common(),
@@ -67,6 +79,16 @@ public class IdpStack extends Stack {
         .description(describe(conf.common(), "idp::network"))
         .build());
 
+    this.vpcEndpoints = new VpcEndpointsNestedStack(
+      this,
+      conf.common(),
+      conf,
+      this.network.vpc(),
+      NestedStackProps
+        .builder()
+        .description(describe(conf.common(), "idp::vpc-endpoints"))
+        .build());
+
     this.eks = new EksNestedStack(
       this,
       conf.common(),
@@ -97,10 +119,23 @@ public class IdpStack extends Stack {
         .description(describe(conf.common(), "idp::observability-addons"))
         .build());
 
+    this.platformAddons = new PlatformAddonsNestedStack(
+      this,
+      conf.common(),
+      conf,
+      this.components,
+      this.eks.cluster(),
+      this.coreAddons,
+      NestedStackProps
+        .builder()
+        .description(describe(conf.common(), "idp::platform-addons"))
+        .build());
+
     this.setup = new IdpSetupNestedStack(
       this,
       conf.common(),
       conf,
+      this.components,
       this.network.vpc(),
       this.eks.cluster(),
       NestedStackProps
@@ -112,6 +147,7 @@ public class IdpStack extends Stack {
       this,
       conf.common(),
       conf,
+      this.components,
       this.eks.cluster(),
       this.setup,
       NestedStackProps
@@ -123,6 +159,7 @@ public class IdpStack extends Stack {
       this,
       conf.common(),
       conf,
+      this.components,
       this.eks.cluster(),
       this.setup,
       NestedStackProps
@@ -134,6 +171,7 @@ public class IdpStack extends Stack {
       this,
       conf.common(),
       conf,
+      this.components,
       this.eks.cluster(),
       this.setup,
       NestedStackProps
@@ -145,6 +183,7 @@ public class IdpStack extends Stack {
       this,
       conf.common(),
       conf,
+      this.components,
       this.eks.cluster(),
       this.setup,
       this.argocd,
@@ -157,6 +196,7 @@ public class IdpStack extends Stack {
       this,
       conf.common(),
       conf,
+      this.components,
       this.eks.cluster(),
       this.setup,
       this.argocd,
@@ -165,10 +205,13 @@ public class IdpStack extends Stack {
         .description(describe(conf.common(), "idp::argo-workflows"))
         .build());
 
-    this.eks().addDependency(this.network());
+    this.vpcEndpoints().addDependency(this.network());
+    this.eks().addDependency(this.vpcEndpoints());
     this.coreAddons().addDependency(this.eks());
     this.observabilityAddons().addDependency(this.coreAddons());
+    this.platformAddons().addDependency(this.observabilityAddons());
     this.setup().addDependency(this.coreAddons());
+    this.setup().addDependency(this.platformAddons());
     this.backstage().addDependency(this.setup());
     this.argocd().addDependency(this.backstage());
     this.argoEvents().addDependency(this.argocd());
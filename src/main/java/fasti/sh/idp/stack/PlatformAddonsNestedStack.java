@@ -0,0 +1,194 @@
+package fasti.sh.idp.stack;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.DnsConstruct;
+import fasti.sh.idp.construct.ImageCacheConstruct;
+import fasti.sh.idp.construct.MonitoringConstruct;
+import fasti.sh.idp.construct.PodDensityConstruct;
+import fasti.sh.idp.model.ComponentsConf;
+import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.model.main.Common;
+import java.util.ArrayList;
+import java.util.HashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.NestedStack;
+import software.amazon.awscdk.NestedStackProps;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.HelmChart;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.constructs.Construct;
+
+/**
+ * Nested stack for IDP-specific platform add-ons.
+ *
+ * <p>
+ * Installs add-ons the IDP components depend on that are not part of the shared core add-ons:
+ * <ul>
+ * <li>KEDA for event-driven autoscaling of Argo Events event sources</li>
+ * <li>Cluster-wide KEDA trigger authentication for Prometheus scalers</li>
+ * <li>Grafana Operator bound to the external Grafana instance for component dashboards</li>
+ * <li>Cluster-wide recording and alert rules evaluated from the Alloy metrics pipeline</li>
+ * <li>Velero backup and restore dashboards and rules for the DR profile</li>
+ * <li>ECR pull-through cache for upstream registries and optional SOCI lazy-loading node pool</li>
+ * <li>CoreDNS replica autoscaling and NodeLocal DNSCache</li>
+ * <li>VPC CNI prefix delegation and Karpenter pod limits for dense workflow nodes</li>
+ * </ul>
+ */
+@Slf4j
+@Getter
+public class PlatformAddonsNestedStack extends NestedStack {
+  private final HelmChart keda;
+  private final KubernetesManifest kedaAuthentication;
+  private final HelmChart grafanaOperator;
+  private final KubernetesManifest grafanaInstance;
+  private final MonitoringConstruct clusterMonitoring;
+  private final MonitoringConstruct veleroMonitoring;
+  private final ImageCacheConstruct imageCache;
+  private final DnsConstruct dns;
+  private final PodDensityConstruct podDensity;
+
+  /**
+   * Creates the platform add-ons nested stack.
+   *
+   * @param scope
+   *          the parent construct
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          IDP release configuration
+   * @param components
+   *          IDP component configuration
+   * @param cluster
+   *          the EKS cluster to deploy to
+   * @param coreAddons
+   *          core add-ons holding the CoreDNS and VPC CNI managed add-ons
+   * @param props
+   *          nested stack properties
+   */
+  public PlatformAddonsNestedStack(
+    Construct scope,
+    Common common,
+    IdpReleaseConf conf,
+    ComponentsConf components,
+    Cluster cluster,
+    Construct coreAddons,
+    NestedStackProps props) {
+    super(scope, "platform-addons", props);
+
+    log.debug("{} [common: {} conf: {}]", "PlatformAddonsNestedStack", common, conf);
+
+    var keda = components.keda();
+
+    var values = TemplateUtils.parseAsMap(scope, keda.chart().values());
+
+    this.keda = HelmChart.Builder
+      .create(this, keda.chart().name())
+      .cluster(cluster)
+      .wait(true)
+      .timeout(Duration.minutes(15))
+      .skipCrds(false)
+      .createNamespace(true)
+      .chart(keda.chart().name())
+      .namespace(keda.chart().namespace())
+      .repository(keda.chart().repository())
+      .release(keda.chart().release())
+      .version(keda.chart().version())
+      .values(values)
+      .build();
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("keda.namespace", keda.chart().namespace());
+    templateMappings.put("prometheus.secret", components.prometheus().secret());
+    templateMappings.put("prometheus.usernameKey", components.prometheus().usernameKey());
+    templateMappings.put("prometheus.passwordKey", components.prometheus().passwordKey());
+
+    var authenticationManifests = TemplateUtils.parseAsList(scope, keda.authentication(), templateMappings);
+    this.kedaAuthentication = KubernetesManifest.Builder
+      .create(this, "keda-authentication")
+      .cluster(cluster)
+      .manifest(authenticationManifests)
+      .overwrite(true)
+      .build();
+
+    this.kedaAuthentication.getNode().addDependency(this.keda);
+
+    var monitoring = components.monitoring();
+    var operatorValues = TemplateUtils.parseAsMap(scope, monitoring.operator().values());
+
+    this.grafanaOperator = HelmChart.Builder
+      .create(this, monitoring.operator().name())
+      .cluster(cluster)
+      .wait(true)
+      .timeout(Duration.minutes(15))
+      .skipCrds(false)
+      .createNamespace(true)
+      .chart(monitoring.operator().name())
+      .namespace(monitoring.operator().namespace())
+      .repository(monitoring.operator().repository())
+      .release(monitoring.operator().release())
+      .version(monitoring.operator().version())
+      .values(operatorValues)
+      .build();
+
+    var instanceMappings = new HashMap<String, Object>();
+    instanceMappings.put("grafana.namespace", monitoring.operator().namespace());
+    instanceMappings.put("grafana.url", monitoring.url());
+    instanceMappings.put("grafana.secret", components.prometheus().secret());
+    instanceMappings.put("grafana.tokenKey", monitoring.tokenKey());
+    instanceMappings.put("grafana.folder", monitoring.folder());
+
+    var instanceManifests = TemplateUtils.parseAsList(scope, monitoring.instance(), instanceMappings);
+    this.grafanaInstance = KubernetesManifest.Builder
+      .create(this, "grafana-instance")
+      .cluster(cluster)
+      .manifest(instanceManifests)
+      .overwrite(true)
+      .build();
+
+    this.grafanaInstance.getNode().addDependency(this.grafanaOperator);
+
+    this.clusterMonitoring = new MonitoringConstruct(
+      this,
+      "cluster-monitoring",
+      common,
+      monitoring,
+      monitoring.cluster(),
+      conf.eks().name(),
+      cluster);
+
+    this.veleroMonitoring = monitoring.velero() != null
+      ? new MonitoringConstruct(this, "velero-monitoring", common, monitoring, monitoring.velero(), conf.eks().name(), cluster)
+      : null;
+
+    this.imageCache = new ImageCacheConstruct(this, "image-cache", common, components.imageCache(), cluster);
+
+    this.dns = new DnsConstruct(
+      this,
+      "dns",
+      common,
+      components.dns(),
+      components.imageCache().mirror("registry.k8s.io") + "/" + components.dns().image(),
+      coreAddons,
+      cluster);
+
+    var nodeClasses = new ArrayList<>(components.podDensity().nodeClasses());
+    if (components.imageCache().enabled() && components.imageCache().soci().enabled()) {
+      nodeClasses.add("soci");
+    }
+
+    this.podDensity = new PodDensityConstruct(
+      this,
+      "pod-density",
+      common,
+      components.podDensity(),
+      nodeClasses,
+      coreAddons,
+      cluster);
+
+    if (this.imageCache.sociNodePool() != null) {
+      this.podDensity.getNode().addDependency(this.imageCache.sociNodePool());
+    }
+  }
+}
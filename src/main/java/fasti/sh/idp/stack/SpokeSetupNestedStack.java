@@ -0,0 +1,198 @@
+package fasti.sh.idp.stack;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.construct.DnsConstruct;
+import fasti.sh.idp.construct.PodDensityConstruct;
+import fasti.sh.idp.model.ComponentsConf;
+import fasti.sh.idp.model.SpokesConf;
+import fasti.sh.model.main.Common;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.NestedStack;
+import software.amazon.awscdk.NestedStackProps;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.customresources.AwsCustomResource;
+import software.amazon.awscdk.customresources.AwsSdkCall;
+import software.amazon.awscdk.customresources.PhysicalResourceId;
+import software.amazon.awscdk.services.eks.CfnAccessEntry;
+import software.amazon.awscdk.services.eks.Cluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.amazon.awscdk.services.iam.ArnPrincipal;
+import software.amazon.awscdk.services.iam.ManagedPolicy;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.iam.SessionTagsPrincipal;
+import software.constructs.Construct;
+
+/**
+ * Nested stack registering a spoke cluster with the hub.
+ *
+ * <p>
+ * Creates:
+ * <ul>
+ * <li>Access role assumable by the hub ArgoCD controller, bound through an EKS access entry to roles limited to the objects the
+ * executor chart ships</li>
+ * <li>Executor chart namespace and workflow controller RBAC, so the hub never creates or binds roles</li>
+ * <li>Argo Workflows executor namespace, service account and RBAC</li>
+ * <li>CoreDNS replica autoscaling and optional NodeLocal DNSCache for executor pod bursts, pulled from upstream since the
+ * pull-through cache rules only exist on the hub</li>
+ * <li>VPC CNI prefix delegation and Karpenter pod limits</li>
+ * <li>Hub secret with the cluster endpoint, certificate authority and access role, written by a registration role through the
+ * spoke's hub registrar role</li>
+ * </ul>
+ */
+@Slf4j
+@Getter
+public class SpokeSetupNestedStack extends NestedStack {
+  private final Role access;
+  private final CfnAccessEntry accessEntry;
+  private final KubernetesManifest executor;
+  private final DnsConstruct dns;
+  private final PodDensityConstruct podDensity;
+  private final Role registrationRole;
+  private final AwsCustomResource registration;
+
+  /**
+   * Creates the spoke setup nested stack.
+   *
+   * @param scope
+   *          the parent construct
+   * @param hub
+   *          shared deployment metadata of the hub
+   * @param common
+   *          shared deployment metadata of the spoke
+   * @param conf
+   *          spoke topology published by the hub
+   * @param components
+   *          IDP component configuration rendered for the spoke
+   * @param cluster
+   *          the spoke EKS cluster
+   * @param coreAddons
+   *          core add-ons holding the CoreDNS and VPC CNI managed add-ons
+   * @param props
+   *          nested stack properties
+   */
+  public SpokeSetupNestedStack(
+    Construct scope,
+    Common hub,
+    Common common,
+    SpokesConf conf,
+    ComponentsConf components,
+    Cluster cluster,
+    Construct coreAddons,
+    NestedStackProps props) {
+    super(scope, "spoke-setup", props);
+
+    log.debug("{} [common: {} conf: {}]", "SpokeSetupNestedStack", common, conf);
+
+    var controller = String.format("arn:aws:iam::%s:role/%s", hub.account(), conf.controllerRole());
+    var registrar = String.format("arn:aws:iam::%s:role/%s", hub.account(), conf.registrarRole(common.id()));
+    var secret = conf.secret(common.id());
+
+    this.access = Role.Builder
+      .create(this, "access")
+      .roleName(conf.accessRole(common.id()))
+      .assumedBy(new SessionTagsPrincipal(new ArnPrincipal(controller)))
+      .build();
+
+    this.accessEntry = CfnAccessEntry.Builder
+      .create(this, "access-entry")
+      .clusterName(cluster.getClusterName())
+      .principalArn(this.access.getRoleArn())
+      .type("STANDARD")
+      .kubernetesGroups(List.of(conf.accessRole()))
+      .build();
+
+    var templateMappings = new HashMap<String, Object>();
+    templateMappings.put("executor.namespace", conf.executor().namespace());
+    templateMappings.put("executor.serviceAccount", conf.executor().serviceAccount());
+    templateMappings.put("executor.controllerServiceAccount", conf.executor().controllerServiceAccount());
+    templateMappings.put("executor.chartNamespace", conf.executor().chart().namespace());
+    templateMappings.put("access.group", conf.accessRole());
+
+    var executorManifests = TemplateUtils.parseAsList(scope, conf.executor().manifests(), templateMappings);
+    this.executor = KubernetesManifest.Builder
+      .create(this, "executor")
+      .cluster(cluster)
+      .manifest(executorManifests)
+      .overwrite(true)
+      .build();
+
+    this.dns = new DnsConstruct(
+      this,
+      "dns",
+      common,
+      components.dns(),
+      "registry.k8s.io/" + components.dns().image(),
+      coreAddons,
+      cluster);
+
+    this.podDensity = new PodDensityConstruct(
+      this,
+      "pod-density",
+      common,
+      components.podDensity(),
+      components.podDensity().nodeClasses(),
+      coreAddons,
+      cluster);
+
+    var connection = Stack.of(this)
+      .toJsonString(
+        Map.of(
+          "server", cluster.getClusterEndpoint(),
+          "clusterName", cluster.getClusterName(),
+          "roleArn", this.access.getRoleArn(),
+          "caData", cluster.getClusterCertificateAuthorityData()));
+
+    this.registrationRole = Role.Builder
+      .create(this, "registration-role")
+      .roleName(conf.registrationRole(common.id()))
+      .assumedBy(new ServicePrincipal("lambda.amazonaws.com"))
+      .managedPolicies(List.of(ManagedPolicy.fromAwsManagedPolicyName("service-role/AWSLambdaBasicExecutionRole")))
+      .build();
+
+    this.registrationRole
+      .addToPrincipalPolicy(
+        PolicyStatement.Builder
+          .create()
+          .actions(List.of("sts:AssumeRole"))
+          .resources(List.of(registrar))
+          .build());
+
+    this.registration = AwsCustomResource.Builder
+      .create(this, "registration")
+      .onCreate(
+        AwsSdkCall.builder()
+          .service("SecretsManager")
+          .action("createSecret")
+          .region(hub.region())
+          .assumedRoleArn(registrar)
+          .parameters(Map.of("Name", secret, "SecretString", connection))
+          .physicalResourceId(PhysicalResourceId.of(secret))
+          .build())
+      .onUpdate(
+        AwsSdkCall.builder()
+          .service("SecretsManager")
+          .action("putSecretValue")
+          .region(hub.region())
+          .assumedRoleArn(registrar)
+          .parameters(Map.of("SecretId", secret, "SecretString", connection))
+          .physicalResourceId(PhysicalResourceId.of(secret))
+          .build())
+      .onDelete(
+        AwsSdkCall.builder()
+          .service("SecretsManager")
+          .action("deleteSecret")
+          .region(hub.region())
+          .assumedRoleArn(registrar)
+          .parameters(Map.of("SecretId", secret, "ForceDeleteWithoutRecovery", true))
+          .build())
+      .role(this.registrationRole)
+      .installLatestAwsSdk(false)
+      .build();
+  }
+}
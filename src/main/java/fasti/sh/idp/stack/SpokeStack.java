@@ -0,0 +1,124 @@
+package fasti.sh.idp.stack;
+
+import static fasti.sh.execute.serialization.Format.describe;
+import static fasti.sh.execute.serialization.Format.id;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import fasti.sh.execute.aws.eks.AddonsNestedStack;
+import fasti.sh.execute.aws.eks.EksNestedStack;
+import fasti.sh.execute.aws.vpc.NetworkNestedStack;
+import fasti.sh.execute.util.ContextUtils;
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.ComponentsConf;
+import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.model.SpokesConf;
+import fasti.sh.model.main.Common;
+import fasti.sh.model.main.Release;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import software.amazon.awscdk.NestedStackProps;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+import software.constructs.Construct;
+
+/**
+ * Lightweight workload-cluster stack driven by the hub control plane.
+ *
+ * <p>
+ * Renders the release configuration with the spoke id, account, region and environment in place of the hub's, then creates only
+ * what a workload cluster needs:
+ * <ol>
+ * <li>Network - VPC and networking infrastructure</li>
+ * <li>EKS - Kubernetes cluster</li>
+ * <li>Core Addons - Essential cluster add-ons (Karpenter, cert-manager, etc.)</li>
+ * <li>Spoke Setup - Hub access role, executor namespace, cluster DNS and registration with the hub ArgoCD</li>
+ * </ol>
+ * ArgoCD, Backstage and the Argo Workflows server stay on the hub.
+ */
+@Getter
+public class SpokeStack extends Stack {
+  private final IdpReleaseConf conf;
+  private final ComponentsConf components;
+  private final NetworkNestedStack network;
+  private final EksNestedStack eks;
+  private final AddonsNestedStack coreAddons;
+  private final SpokeSetupNestedStack setup;
+
+  /**
+   * Creates the spoke stack with all nested stacks.
+   *
+   * @param scope
+   *          the parent construct
+   * @param hub
+   *          shared deployment metadata of the hub
+   * @param spokes
+   *          spoke topology published by the hub
+   * @param spoke
+   *          this spoke
+   * @param props
+   *          stack properties including environment and tags
+   */
+  public SpokeStack(Construct scope, Common hub, SpokesConf spokes, SpokesConf.SpokeConf spoke, StackProps props) {
+    super(scope, id("spoke", spoke.id()), props);
+
+    this.getNode().setContext("deployment:id", spoke.id());
+    this.getNode().setContext("deployment:account", spoke.account());
+    this.getNode().setContext("deployment:region", spoke.region());
+    this.getNode().setContext("deployment:environment", spoke.environment());
+    this.getNode().setContext("deployment:spokes", List.of());
+
+    var mappings = Map
+      .<String, Object>ofEntries(
+        Map.entry("deployment:tags", ContextUtils.parseTags(this, "deployment:tags")));
+    var type = new TypeReference<Release<IdpReleaseConf>>() {};
+    this.conf = TemplateUtils.parseAs(this, "conf.mustache", mappings, type).release();
+    this.components = TemplateUtils.parseAs(this, this.conf.components(), ComponentsConf.class);
+
+    this.network = new NetworkNestedStack(
+      this,
+      this.conf.common(),
+      this.conf.vpc(),
+      NestedStackProps
+        .builder()
+        .description(describe(this.conf.common(), "spoke::network"))
+        .build());
+
+    this.eks = new EksNestedStack(
+      this,
+      this.conf.common(),
+      this.conf.eks(),
+      this.network.vpc(),
+      NestedStackProps
+        .builder()
+        .description(describe(this.conf.common(), "spoke::eks"))
+        .build());
+
+    this.coreAddons = new AddonsNestedStack(
+      this,
+      this.conf.common(),
+      this.conf.eks(),
+      this.eks.cluster(),
+      NestedStackProps
+        .builder()
+        .description(describe(this.conf.common(), "spoke::addons"))
+        .build());
+
+    this.setup = new SpokeSetupNestedStack(
+      this,
+      hub,
+      this.conf.common(),
+      spokes,
+      this.components,
+      this.eks.cluster(),
+      this.coreAddons,
+      NestedStackProps
+        .builder()
+        .description(describe(this.conf.common(), "spoke::setup"))
+        .build());
+
+    this.eks().addDependency(this.network());
+    this.coreAddons().addDependency(this.eks());
+    this.setup().addDependency(this.coreAddons());
+  }
+}
@@ -0,0 +1,125 @@
+package fasti.sh.idp.stack;
+
+import fasti.sh.execute.util.TemplateUtils;
+import fasti.sh.idp.model.IdpReleaseConf;
+import fasti.sh.idp.model.SpokesConf;
+import fasti.sh.idp.model.VpcEndpointConf;
+import fasti.sh.idp.model.VpcEndpointsConf;
+import fasti.sh.model.main.Common;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.NestedStack;
+import software.amazon.awscdk.NestedStackProps;
+import software.amazon.awscdk.services.ec2.GatewayVpcEndpoint;
+import software.amazon.awscdk.services.ec2.GatewayVpcEndpointAwsService;
+import software.amazon.awscdk.services.ec2.InterfaceVpcEndpoint;
+import software.amazon.awscdk.services.ec2.InterfaceVpcEndpointAwsService;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.ec2.VpcEndpoint;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.constructs.Construct;
+
+/**
+ * Nested stack for VPC endpoints.
+ *
+ * <p>
+ * Keeps AWS service traffic from the cluster off the NAT gateways:
+ * <ul>
+ * <li>S3 gateway endpoint for artifact uploads and ECR image layers</li>
+ * <li>Interface endpoints with private DNS for ECR, STS, Secrets Manager, SQS, CloudWatch Logs and EKS auth</li>
+ * <li>Endpoint policies scoped to the release account, plus hub ArgoCD access to the spoke cluster roles through STS</li>
+ * </ul>
+ */
+@Slf4j
+@Getter
+public class VpcEndpointsNestedStack extends NestedStack {
+  private final List<GatewayVpcEndpoint> gateways = new ArrayList<>();
+  private final List<InterfaceVpcEndpoint> interfaces = new ArrayList<>();
+
+  /**
+   * Creates the VPC endpoints nested stack.
+   *
+   * @param scope
+   *          the parent construct
+   * @param common
+   *          shared deployment metadata
+   * @param conf
+   *          IDP release configuration
+   * @param vpc
+   *          VPC the endpoints are attached to
+   * @param props
+   *          nested stack properties
+   */
+  public VpcEndpointsNestedStack(
+    Construct scope,
+    Common common,
+    IdpReleaseConf conf,
+    Vpc vpc,
+    NestedStackProps props) {
+    super(scope, "vpc-endpoints", props);
+
+    log.debug("{} [common: {} conf: {}]", "VpcEndpointsNestedStack", common, conf);
+
+    var endpoints = TemplateUtils.parseAs(scope, conf.endpoints(), VpcEndpointsConf.class);
+    if (!endpoints.enabled()) {
+      return;
+    }
+
+    var spokes = TemplateUtils.parseAs(scope, conf.spokes(), SpokesConf.class);
+    var policyMappings = new HashMap<String, Object>();
+    policyMappings
+      .put(
+        "spokes",
+        spokes
+          .spokes()
+          .stream()
+          .map(spoke -> String.format("arn:aws:iam::%s:role/%s", spoke.account(), spokes.accessRole(spoke.id())))
+          .map(role -> Map.<String, Object>of("role", role))
+          .toList());
+
+    var subnets = SubnetSelection.builder()
+      .subnetType(SubnetType.valueOf(endpoints.subnetType().toUpperCase()))
+      .build();
+
+    for (var gateway : endpoints.gateways()) {
+      var endpoint = GatewayVpcEndpoint.Builder
+        .create(this, gateway.name())
+        .vpc(vpc)
+        .service(new GatewayVpcEndpointAwsService(gateway.service()))
+        .subnets(List.of(subnets))
+        .build();
+
+      addPolicy(scope, endpoint, gateway, policyMappings);
+      this.gateways.add(endpoint);
+    }
+
+    for (var iface : endpoints.interfaces()) {
+      var endpoint = InterfaceVpcEndpoint.Builder
+        .create(this, iface.name())
+        .vpc(vpc)
+        .service(new InterfaceVpcEndpointAwsService(iface.service()))
+        .subnets(subnets)
+        .privateDnsEnabled(iface.privateDns())
+        .open(true)
+        .build();
+
+      addPolicy(scope, endpoint, iface, policyMappings);
+      this.interfaces.add(endpoint);
+    }
+  }
+
+  private static void addPolicy(Construct scope, VpcEndpoint endpoint, VpcEndpointConf conf, Map<String, Object> mappings) {
+    if (conf.policy() == null) {
+      return;
+    }
+
+    TemplateUtils.parseAsList(scope, conf.policy(), mappings)
+      .forEach(statement -> endpoint.addToPolicy(PolicyStatement.fromJson(statement)));
+  }
+}
@@ -0,0 +1,59 @@
+package fasti.sh.idp.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.CfnAddon;
+import software.constructs.Construct;
+
+/**
+ * Sets configuration values on managed EKS add-ons.
+ *
+ * <p>
+ * The shared add-on configuration does not expose configuration values, so they are set on the {@link CfnAddon} it renders.
+ * The add-on is looked up by name under the construct holding the core add-ons; a name that matches nothing fails synth
+ * instead of leaving the add-on on its defaults.
+ */
+@Slf4j
+public final class AddonUtils {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private AddonUtils() {}
+
+  /**
+   * Applies configuration values to every managed add-on named {@code name} under {@code addons}.
+   *
+   * @param addons
+   *          construct holding the managed add-ons
+   * @param name
+   *          managed add-on name
+   * @param values
+   *          add-on configuration values
+   * @throws IllegalStateException
+   *           if no managed add-on named {@code name} exists under {@code addons}
+   */
+  public static void configure(Construct addons, String name, Map<String, Object> values) {
+    var matches = addons.getNode()
+      .findAll()
+      .stream()
+      .filter(CfnAddon.class::isInstance)
+      .map(CfnAddon.class::cast)
+      .filter(addon -> name.equals(addon.getAddonName()))
+      .toList();
+
+    if (matches.isEmpty()) {
+      throw new IllegalStateException("no managed add-on named " + name + " under " + addons.getNode().getPath());
+    }
+
+    var configuration = json(values);
+    log.debug("{} [addon: {} configuration: {}]", "AddonUtils", name, configuration);
+
+    matches.forEach(addon -> addon.setConfigurationValues(configuration));
+  }
+
+  @SneakyThrows
+  private static String json(Map<String, Object> values) {
+    return MAPPER.writeValueAsString(values);
+  }
+}
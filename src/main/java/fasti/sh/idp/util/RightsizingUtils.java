@@ -0,0 +1,180 @@
+package fasti.sh.idp.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fasti.sh.idp.model.Recommendation;
+import fasti.sh.idp.model.RightsizingConf;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+import java.util.function.ToDoubleFunction;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Merges VPA recommendations into rendered Helm values.
+ *
+ * <p>
+ * The templates keep their hand-written {@code resources} blocks as the baseline. Each recommended request is clamped to
+ * {@code maxStep} of the request deployed when the recommendations were exported, falling back to the template request when
+ * the export does not carry it. Re-synthesizing the same export gives the same values; each export, synth and deploy round
+ * moves a request at most one step, so a release converges on the recommendation over several rounds instead of jumping.
+ * Limits are raised when a request would exceed them.
+ */
+@Slf4j
+public final class RightsizingUtils {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Map<String, Double> MEMORY_UNITS = Map
+    .of(
+      "Ki", 1024d,
+      "Mi", 1024d * 1024,
+      "Gi", 1024d * 1024 * 1024,
+      "Ti", 1024d * 1024 * 1024 * 1024,
+      "k", 1e3,
+      "M", 1e6,
+      "G", 1e9,
+      "T", 1e12,
+      "m", 1e-3);
+
+  private RightsizingUtils() {}
+
+  /**
+   * Applies the recommendations targeting {@code release} to its Helm values in place.
+   *
+   * @param conf
+   *          rightsizing configuration
+   * @param release
+   *          Helm release the values belong to
+   * @param values
+   *          rendered Helm values
+   * @return the same values, for chaining
+   */
+  public static Map<String, Object> apply(RightsizingConf conf, String release, Map<String, Object> values) {
+    if (conf.recommendations() == null || conf.recommendations().isBlank()) {
+      return values;
+    }
+
+    var recommendations = read(Path.of(conf.recommendations()));
+    for (var target : conf.targets()) {
+      if (!target.release().equals(release)) {
+        continue;
+      }
+
+      var recommendation = recommendations
+        .stream()
+        .filter(r -> r.namespace().equals(target.namespace()))
+        .filter(r -> r.workload().equals(target.workload()))
+        .filter(r -> r.container().equals(target.container()))
+        .findFirst();
+
+      var resources = resolve(values, target.path());
+      if (recommendation.isEmpty() || resources == null) {
+        log.warn("{} [release: {} target: {} recommendation: {} resources: {}]",
+          "RightsizingUtils", release, target, recommendation.isPresent(), resources != null);
+        continue;
+      }
+
+      var recommended = recommendation.get();
+      resize(
+        resources, "cpu", recommended.cpu(), recommended.deployedCpu(), conf.maxStep(),
+        RightsizingUtils::cores, RightsizingUtils::millicores);
+      resize(
+        resources, "memory", recommended.memory(), recommended.deployedMemory(), conf.maxStep(),
+        RightsizingUtils::bytes, RightsizingUtils::mebibytes);
+
+      log.debug("{} [release: {} path: {} resources: {}]", "RightsizingUtils", release, target.path(), resources);
+    }
+
+    return values;
+  }
+
+  /**
+   * Moves one request towards its recommendation and raises the matching limit when the request would exceed it.
+   *
+   * @param resources
+   *          {@code resources} block, changed in place
+   * @param key
+   *          {@code cpu} or {@code memory}
+   * @param recommended
+   *          recommended quantity; unset leaves the block untouched
+   * @param deployed
+   *          quantity currently running, anchoring the step; unset anchors on the template request
+   * @param maxStep
+   *          largest fractional change from the anchor
+   * @param parse
+   *          quantity parser
+   * @param format
+   *          quantity formatter
+   */
+  @SuppressWarnings("unchecked")
+  static void resize(
+    Map<String, Object> resources,
+    String key,
+    String recommended,
+    String deployed,
+    double maxStep,
+    ToDoubleFunction<String> parse,
+    DoubleFunction<String> format) {
+    var requests = (Map<String, Object>) resources.get("requests");
+    if (recommended == null || requests == null || requests.get(key) == null) {
+      return;
+    }
+
+    var anchor = parse.applyAsDouble(deployed != null ? deployed : String.valueOf(requests.get(key)));
+    var target = parse.applyAsDouble(recommended);
+    var request = Math.max(anchor / (1 + maxStep), Math.min(anchor * (1 + maxStep), target));
+    requests.put(key, format.apply(request));
+
+    var limits = (Map<String, Object>) resources.get("limits");
+    if (limits != null && limits.get(key) != null && parse.applyAsDouble(String.valueOf(limits.get(key))) < request) {
+      limits.put(key, format.apply(request));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> resolve(Map<String, Object> values, String path) {
+    Object node = values;
+    for (var segment : path.split("\\.")) {
+      if (!(node instanceof Map)) {
+        return null;
+      }
+      node = ((Map<String, Object>) node).get(segment);
+    }
+    return node instanceof Map ? (Map<String, Object>) node : null;
+  }
+
+  static double cores(String quantity) {
+    return quantity.endsWith("m")
+      ? Double.parseDouble(quantity.substring(0, quantity.length() - 1)) / 1000
+      : Double.parseDouble(quantity);
+  }
+
+  static String millicores(double cores) {
+    return (long) Math.ceil(cores * 1000) + "m";
+  }
+
+  static double bytes(String quantity) {
+    for (var unit : List.of("Ki", "Mi", "Gi", "Ti", "k", "M", "G", "T", "m")) {
+      if (quantity.endsWith(unit)) {
+        return Double.parseDouble(quantity.substring(0, quantity.length() - unit.length())) * MEMORY_UNITS.get(unit);
+      }
+    }
+    return Double.parseDouble(quantity);
+  }
+
+  static String mebibytes(double bytes) {
+    return (long) Math.ceil(bytes / MEMORY_UNITS.get("Mi")) + "Mi";
+  }
+
+  @SneakyThrows
+  private static List<Recommendation> read(Path path) {
+    if (!Files.exists(path)) {
+      log.warn("{} [recommendations: {} missing]", "RightsizingUtils", path);
+      return List.of();
+    }
+
+    return MAPPER.readValue(path.toFile(), new TypeReference<List<Recommendation>>() {});
+  }
+}
@@ -0,0 +1,35 @@
+package fasti.sh.idp.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ImageCacheConfTest {
+  private static final String REGISTRY = "000000000000.dkr.ecr.us-west-2.amazonaws.com";
+  private static final List<PullThroughCacheConf> UPSTREAMS = List.of(
+    new PullThroughCacheConf("k8s", "k8s", "registry.k8s.io", null),
+    new PullThroughCacheConf("quay", "quay", "quay.io", null));
+
+  @Test
+  void mirrorUsesCachePrefixWhenEnabled() {
+    var conf = new ImageCacheConf(true, REGISTRY, null, UPSTREAMS, null, null);
+
+    assertEquals(REGISTRY + "/k8s", conf.mirror("registry.k8s.io"));
+    assertEquals(REGISTRY + "/quay", conf.mirror("quay.io"));
+  }
+
+  @Test
+  void mirrorKeepsUncachedRegistries() {
+    var conf = new ImageCacheConf(true, REGISTRY, null, UPSTREAMS, null, null);
+
+    assertEquals("ghcr.io", conf.mirror("ghcr.io"));
+  }
+
+  @Test
+  void mirrorKeepsUpstreamWhenDisabled() {
+    var conf = new ImageCacheConf(false, REGISTRY, null, UPSTREAMS, null, null);
+
+    assertEquals("registry.k8s.io", conf.mirror("registry.k8s.io"));
+  }
+}
@@ -0,0 +1,41 @@
+package fasti.sh.idp.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IngressConfTest {
+  private static final String CERTIFICATE = "arn:aws:acm:us-west-2:000000000000:certificate/abc";
+  private static final Map<String, String> GROUPS = Map.of("argo", "argo", "backstage", "backstage-platform");
+
+  @Test
+  void mappingsUseComponentGroupWhenNotShared() {
+    var conf = new IngressConf(false, "platform-ui", GROUPS, 300, 3600, 30, 30, List.of());
+
+    assertEquals("argo", conf.mappings("argo", CERTIFICATE).get("ingress.group"));
+    assertEquals("backstage-platform", conf.mappings("backstage", CERTIFICATE).get("ingress.group"));
+  }
+
+  @Test
+  void mappingsUseSharedGroup() {
+    var conf = new IngressConf(true, "platform-ui", GROUPS, 300, 3600, 30, 30, List.of());
+
+    assertEquals("platform-ui", conf.mappings("argo", CERTIFICATE).get("ingress.group"));
+    assertEquals("platform-ui", conf.mappings("backstage", CERTIFICATE).get("ingress.group"));
+  }
+
+  @Test
+  void mappingsRenderAttributes() {
+    var mappings = new IngressConf(false, "platform-ui", GROUPS, 300, 3600, 30, 15, List.of()).mappings("argo", CERTIFICATE);
+
+    assertEquals(CERTIFICATE, mappings.get("ingress.certificate"));
+    assertEquals(
+      "routing.http2.enabled=true,idle_timeout.timeout_seconds=300,client_keep_alive.seconds=3600",
+      mappings.get("ingress.loadBalancerAttributes"));
+    assertEquals(
+      "deregistration_delay.timeout_seconds=30,slow_start.duration_seconds=15",
+      mappings.get("ingress.targetGroupAttributes"));
+  }
+}
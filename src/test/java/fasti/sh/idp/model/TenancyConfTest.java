@@ -0,0 +1,70 @@
+package fasti.sh.idp.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TenancyConfTest {
+  private static final TenancyConf.QuotaConf QUOTA = new TenancyConf.QuotaConf("64", "128Gi", "500");
+  private static final TenancyConf.LimitsConf LIMITS = new TenancyConf.LimitsConf("100m", "256Mi", "8", "32Gi");
+
+  private static final TenancyConf TENANCY = new TenancyConf(
+    "setup/argo-workflows-tenancy.mustache",
+    "platform",
+    List.of(
+      new TenancyConf.TierConf("platform", 1000000, "PreemptLowerPriority", "platform"),
+      new TenancyConf.TierConf("interactive", 1000, "Never", "interactive"),
+      new TenancyConf.TierConf("batch", 100, "Never", "batch")),
+    new TenancyConf.TenantConf(null, "batch", 10, QUOTA, LIMITS, Map.of("builds", 10)),
+    List.of(
+      new TenancyConf.TenantConf("team-backend", "interactive", null, null, null, null),
+      new TenancyConf.TenantConf("team-ml", null, 20, new TenancyConf.QuotaConf("128", "512Gi", "300"), null, null)));
+
+  @Test
+  void tenantFallsBackToDefaults() {
+    var tenant = TENANCY.tenant("team-other");
+
+    assertEquals("team-other", tenant.namespace());
+    assertEquals("batch", tenant.tier());
+    assertEquals(10, tenant.parallelism());
+    assertEquals(QUOTA, tenant.quota());
+    assertEquals(LIMITS, tenant.limits());
+    assertEquals(Map.of("builds", 10), tenant.semaphores());
+  }
+
+  @Test
+  void tenantMergesOverridesOverDefaults() {
+    var backend = TENANCY.tenant("team-backend");
+    var ml = TENANCY.tenant("team-ml");
+
+    assertEquals("interactive", backend.tier());
+    assertEquals(10, backend.parallelism());
+    assertEquals(QUOTA, backend.quota());
+
+    assertEquals("batch", ml.tier());
+    assertEquals(20, ml.parallelism());
+    assertEquals("128", ml.quota().cpu());
+    assertEquals(LIMITS, ml.limits());
+  }
+
+  @Test
+  void parallelismSumsTenantLimits() {
+    assertEquals(40, TENANCY.parallelism(List.of("team-backend", "team-ml", "team-other")));
+    assertEquals(0, TENANCY.parallelism(List.of()));
+  }
+
+  @Test
+  void aboveFencesHigherTiersAndPlatform() {
+    assertEquals(List.of("platform", "interactive"), TENANCY.above("batch"));
+    assertEquals(List.of("platform"), TENANCY.above("interactive"));
+    assertEquals(List.of("platform"), TENANCY.above("platform"));
+  }
+
+  @Test
+  void aboveRejectsUnknownTier() {
+    assertThrows(IllegalArgumentException.class, () -> TENANCY.above("urgent"));
+  }
+}
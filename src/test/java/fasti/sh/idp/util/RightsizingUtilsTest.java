@@ -0,0 +1,158 @@
+package fasti.sh.idp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fasti.sh.idp.model.Recommendation;
+import fasti.sh.idp.model.RightsizingConf;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RightsizingUtilsTest {
+
+  @Test
+  void bytesParsesPlainCounts() {
+    assertEquals(134217728d, RightsizingUtils.bytes("134217728"));
+  }
+
+  @Test
+  void bytesParsesDecimalAndBinaryUnits() {
+    assertEquals(500_000d, RightsizingUtils.bytes("500k"));
+    assertEquals(2048d, RightsizingUtils.bytes("2Ki"));
+    assertEquals(256d * 1024 * 1024, RightsizingUtils.bytes("256Mi"));
+    assertEquals(2e9, RightsizingUtils.bytes("2G"));
+  }
+
+  @Test
+  void bytesParsesMilliUnits() {
+    assertEquals(128974848d, RightsizingUtils.bytes("128974848000m"), 1e-3);
+  }
+
+  @Test
+  void coresParsesPlainAndMilliUnits() {
+    assertEquals(2d, RightsizingUtils.cores("2"));
+    assertEquals(0.5d, RightsizingUtils.cores("0.5"));
+    assertEquals(0.25d, RightsizingUtils.cores("250m"));
+  }
+
+  @Test
+  void formatsRoundUp() {
+    assertEquals("251m", RightsizingUtils.millicores(0.2501));
+    assertEquals("123Mi", RightsizingUtils.mebibytes(128974848));
+  }
+
+  @Test
+  void resizeAppliesRecommendationWithinStep() {
+    var resources = resources("500m", null);
+
+    resize(resources, "600m", null);
+
+    assertEquals("600m", requests(resources).get("cpu"));
+  }
+
+  @Test
+  void resizeClampsOnTemplateRequest() {
+    var up = resources("500m", null);
+    var down = resources("600m", null);
+
+    resize(up, "4", null);
+    resize(down, "100m", null);
+
+    assertEquals("750m", requests(up).get("cpu"));
+    assertEquals("400m", requests(down).get("cpu"));
+  }
+
+  @Test
+  void resizeClampsOnDeployedRequest() {
+    var resources = resources("500m", null);
+
+    resize(resources, "4", "1");
+
+    assertEquals("1500m", requests(resources).get("cpu"));
+  }
+
+  @Test
+  void resizeRaisesLimitBelowRequest() {
+    var resources = resources("500m", "600m");
+
+    resize(resources, "700m", null);
+
+    assertEquals("700m", requests(resources).get("cpu"));
+    assertEquals("700m", limits(resources).get("cpu"));
+  }
+
+  @Test
+  void resizeKeepsLimitAboveRequest() {
+    var resources = resources("500m", "2");
+
+    resize(resources, "700m", null);
+
+    assertEquals("2", limits(resources).get("cpu"));
+  }
+
+  @Test
+  void resizeIgnoresMissingRecommendation() {
+    var resources = resources("500m", null);
+
+    resize(resources, null, "1");
+
+    assertEquals("500m", requests(resources).get("cpu"));
+  }
+
+  @Test
+  void applySkipsWhenDisabled() {
+    var values = Map.<String, Object>of("resources", resources("500m", null));
+
+    RightsizingUtils.apply(new RightsizingConf("", 0.5, List.of()), "argocd", values);
+
+    assertEquals("500m", requests(values.get("resources")).get("cpu"));
+  }
+
+  @Test
+  void applyResizesTargetedRelease(@TempDir Path directory) throws Exception {
+    var file = directory.resolve("rightsizing.json");
+    new ObjectMapper()
+      .writeValue(
+        file.toFile(),
+        List.of(new Recommendation("argocd", "argocd-server", "server", "2", "64Mi", "1", null)));
+
+    var values = new HashMap<String, Object>();
+    values.put("server", new HashMap<>(Map.of("resources", resources("500m", null))));
+    var conf = new RightsizingConf(
+      file.toString(),
+      0.5,
+      List.of(new RightsizingConf.TargetConf("argocd", "argocd", "argocd-server", "server", "server.resources")));
+
+    RightsizingUtils.apply(conf, "argocd", values);
+    RightsizingUtils.apply(conf, "argo-workflows", values);
+
+    var resources = ((Map<?, ?>) values.get("server")).get("resources");
+    assertEquals("1500m", requests(resources).get("cpu"));
+    assertEquals("171Mi", requests(resources).get("memory"));
+  }
+
+  private static void resize(Map<String, Object> resources, String recommended, String deployed) {
+    RightsizingUtils.resize(resources, "cpu", recommended, deployed, 0.5, RightsizingUtils::cores, RightsizingUtils::millicores);
+  }
+
+  private static Map<String, Object> resources(String cpu, String limit) {
+    var resources = new HashMap<String, Object>();
+    resources.put("requests", new HashMap<>(Map.of("cpu", cpu, "memory", "256Mi")));
+    if (limit != null) {
+      resources.put("limits", new HashMap<>(Map.of("cpu", limit)));
+    }
+    return resources;
+  }
+
+  private static Map<?, ?> requests(Object resources) {
+    return (Map<?, ?>) ((Map<?, ?>) resources).get("requests");
+  }
+
+  private static Map<?, ?> limits(Object resources) {
+    return (Map<?, ?>) ((Map<?, ?>) resources).get("limits");
+  }
+}